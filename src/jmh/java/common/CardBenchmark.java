@@ -0,0 +1,63 @@
+package common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드 생성과 비교 비용. 생성자는 매번 새 객체를, {@link Card#of}는 캐시된 52개 중 하나를 돌려준다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+
+    // 상수 접기를 막기 위해 필드에서 읽는다
+    private Suit suit = Suit.HEARTS;
+    private Rank rank = Rank.QUEEN;
+    private int index = Card.indexOf(Suit.HEARTS, Rank.QUEEN);
+    private Card card = Card.of(Suit.HEARTS, Rank.QUEEN);
+    private Card sameCard = new Card(Suit.HEARTS, Rank.QUEEN);
+    private Card otherCard = Card.of(Suit.SPADES, Rank.QUEEN);
+
+    @Benchmark
+    public Card construct() {
+        return new Card(suit, rank);
+    }
+
+    @Benchmark
+    public Card ofSuitRank() {
+        return Card.of(suit, rank);
+    }
+
+    @Benchmark
+    public Card ofIndex() {
+        return Card.of(index);
+    }
+
+    @Benchmark
+    public boolean equalsSame() {
+        return card.equals(sameCard);
+    }
+
+    @Benchmark
+    public boolean equalsOther() {
+        return card.equals(otherCard);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return card.compareTo(otherCard);
+    }
+}
@@ -0,0 +1,110 @@
+package common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static common.Rank.*;
+import static common.Suit.*;
+
+/**
+ * 족보별 핸드 조립·평가·비교 비용. 족보마다 대표 패 하나를 고정해 두고 같은 패를 반복해서 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandBenchmark {
+
+    private static final Map<Tier, Card[]> SAMPLES = new EnumMap<>(Tier.class);
+
+    static {
+        sample(Tier.HIGH_CARD, CLUBS, TWO, DIAMONDS, FIVE, HEARTS, NINE, SPADES, JACK, CLUBS, KING);
+        sample(Tier.ONE_PAIR, CLUBS, SEVEN, DIAMONDS, SEVEN, HEARTS, TWO, SPADES, NINE, CLUBS, ACE);
+        sample(Tier.TWO_PAIR, CLUBS, FOUR, DIAMONDS, FOUR, HEARTS, JACK, SPADES, JACK, CLUBS, THREE);
+        sample(Tier.THREE_OF_A_KIND, CLUBS, EIGHT, DIAMONDS, EIGHT, HEARTS, EIGHT, SPADES, KING, CLUBS, TWO);
+        sample(Tier.STRAIGHT, CLUBS, FIVE, DIAMONDS, SIX, HEARTS, SEVEN, SPADES, EIGHT, CLUBS, NINE);
+        sample(Tier.FLUSH, HEARTS, TWO, HEARTS, SIX, HEARTS, NINE, HEARTS, JACK, HEARTS, KING);
+        sample(Tier.FULL_HOUSE, CLUBS, TEN, DIAMONDS, TEN, HEARTS, TEN, SPADES, FOUR, CLUBS, FOUR);
+        sample(Tier.FOUR_OF_A_KIND, CLUBS, QUEEN, DIAMONDS, QUEEN, HEARTS, QUEEN, SPADES, QUEEN, CLUBS, FIVE);
+        sample(Tier.STRAIGHT_FLUSH, SPADES, FIVE, SPADES, SIX, SPADES, SEVEN, SPADES, EIGHT, SPADES, NINE);
+        sample(Tier.ROYAL_FLUSH, DIAMONDS, TEN, DIAMONDS, JACK, DIAMONDS, QUEEN, DIAMONDS, KING, DIAMONDS, ACE);
+    }
+
+    private static void sample(Tier tier, Object... suitsAndRanks) {
+        Card[] cards = new Card[suitsAndRanks.length / 2];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = Card.of((Suit) suitsAndRanks[i * 2], (Rank) suitsAndRanks[i * 2 + 1]);
+        }
+        SAMPLES.put(tier, cards);
+    }
+
+    @Param({"HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "THREE_OF_A_KIND", "STRAIGHT",
+            "FLUSH", "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+    private Tier tier;
+
+    private Card[] cards;
+    private final Hand hand = new Hand();
+    private final Hand opened = new Hand();
+    private final Hand rival = new Hand();
+
+    @Setup
+    public void setUp() {
+        cards = SAMPLES.get(tier);
+        for (Card card : cards) {
+            opened.add(card);
+        }
+        opened.open();
+        if (opened.getTier() != tier) {
+            throw new IllegalStateException(tier + " 표본이 " + opened.getTier() + "로 평가됩니다.");
+        }
+        // 비교 상대는 항상 같은 원페어 패
+        for (Card card : SAMPLES.get(Tier.ONE_PAIR)) {
+            rival.add(card);
+        }
+        rival.open();
+    }
+
+    // 다섯 장을 받는 비용. 비우는 비용(O(1))까지 포함된다
+    @Benchmark
+    public long add() {
+        hand.clear();
+        for (Card card : cards) {
+            hand.add(card);
+        }
+        return hand.getMask();
+    }
+
+    @Benchmark
+    public int addAndOpen() {
+        hand.clear();
+        for (Card card : cards) {
+            hand.add(card);
+        }
+        return hand.open().getStrength();
+    }
+
+    @Benchmark
+    public int open() {
+        return opened.open().getStrength();
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return opened.compareTo(rival);
+    }
+}
@@ -0,0 +1,55 @@
+package dealer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 매치(newGame → shuffle → dealCard → handOpen → retrieveCard) 전체 비용.
+ * 기록은 최신 1개만 남겨 보관량이 측정 시간에 따라 늘지 않게 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DealerBenchmark {
+
+    @Param({"2", "4"})
+    private int players;
+
+    private Dealer dealer;
+
+    @Setup
+    public void setUp() {
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        dealer = Dealer.newDealer(SeedPolicy.fixed(42));
+        dealer.retainLatest(1);
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("bench" + i, registry));
+        }
+    }
+
+    @Benchmark
+    public long matchCycle() {
+        dealer.newGame();
+        dealer.shuffle();
+        dealer.dealCard();
+        dealer.handOpen();
+        dealer.retrieveCard();
+        return dealer.getMatchCount();
+    }
+}
@@ -0,0 +1,65 @@
+package dealer;
+
+import common.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * 덱 생성·셔플·드로우 비용. {@link Deck}이 패키지 전용이라 같은 패키지에 둔다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        deck = Deck.newDeck(RandomGenerator.of(SeedPolicy.DEFAULT_ALGORITHM));
+    }
+
+    @Benchmark
+    public Deck newDeck() {
+        return Deck.newDeck();
+    }
+
+    // 52장 전체 셔플
+    @Benchmark
+    public int shuffleFull() {
+        deck.shuffle();
+        return deck.remaining();
+    }
+
+    // 딜러가 실제로 쓰는 부분 셔플 (4명 × 5장)
+    @Benchmark
+    public int shuffleDealt() {
+        deck.shuffle(Dealer.MAX_PLAYER * Dealer.HAND_SIZE);
+        return deck.remaining();
+    }
+
+    // 4명 분량을 뽑고 회수한다
+    @Benchmark
+    public void drawCard(Blackhole blackhole) {
+        for (int i = 0; i < Dealer.MAX_PLAYER * Dealer.HAND_SIZE; i++) {
+            Card card = deck.drawCard();
+            blackhole.consume(card);
+        }
+        deck.retrieve();
+    }
+}
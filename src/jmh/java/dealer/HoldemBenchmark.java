@@ -0,0 +1,48 @@
+package dealer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홀덤 한 판(홀 카드 → 플롭 → 턴 → 리버 → 쇼다운 → 회수) 전체 비용. 쇼다운에는 좌석마다 7장 평가가 한 번씩 들어 있다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HoldemBenchmark {
+
+    @Param({"2", "6", "10"})
+    private int players;
+
+    private HoldemDealer dealer;
+
+    @Setup
+    public void setUp() {
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        dealer = HoldemDealer.newHoldemDealer(SeedPolicy.fixed(42));
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("bench" + i, registry));
+        }
+    }
+
+    @Benchmark
+    public int matchCycle() {
+        return dealer.playMatch();
+    }
+}
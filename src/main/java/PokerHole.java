@@ -1,53 +1,176 @@
-//// ⚠️ 테스트 안내: 모든 테스트가 성공하면 이 파일과 src/main/java/announcer/Announcer.java의 주석을 제거하세요.
-//// 관련 파일: src/main/java/announcer/Announcer.java
-//
-//
-//import announcer.Announcer;
-//import dealer.Dealer;
-//import player.Player;
-//
-//public class PokerHole {
-//    public static void main(String[] args) {
-//        runGameWithAnnouncer();
-//    }
-//
-//    public static void runGameWithAnnouncer() {
-//        // 🎩 딜러 입장
-//        Dealer dealer = Dealer.newDealer();
-//        Announcer.enrollDealer(dealer);
-//
-//        // 👥 플레이어 입장
-//        Announcer.standbyStage();
-//        Announcer.enrollPlayer(dealer.enrollPlayer(Player.newPlayer("고니")));
-//        Announcer.enrollPlayer(dealer.enrollPlayer(Player.newPlayer("평경장")));
-//        Announcer.enrollPlayer(dealer.enrollPlayer(Player.newPlayer("짝귀")));
-//        Announcer.enrollPlayer(dealer.enrollPlayer(Player.newPlayer("아귀")));
-//
-//        // 💀 포커 100판 진행
-//        Announcer.playStage();
-//        for (int i = 0; i < 100; i++) {
-//            Announcer.newGame(); // 🎲 새로운 게임을 시작한다
-//            dealer.newGame();
-//
-//            Announcer.cardShuffle(); // 🔄 카드를 섞는다
-//            dealer.shuffle();
-//
-//            Announcer.dealCard(); // 🃏 카드를 나눠준다
-//            dealer.dealCard();
-//
-//            Announcer.handOpen(); // 👀 카드를 오픈한다
-//            dealer.handOpen();
-//
-//            Announcer.matchResult(dealer.getLatestMatch()); // 📊 매치 결과를 출력한다
-//            Announcer.openWinner(dealer.getLastMatchWinner()); // 🏆 매치 승자를 발표한다
-//
-//            Announcer.endGame(); // 🔚 게임을 종료한다
-//            dealer.retrieveCard();
-//        }
-//
-//        // 🏁 스테이지 결과 발표
-//        Announcer.endStage();
-//        Announcer.stageWinner(dealer.getTotalStageWinner()); // 🏆 스테이지 승자를 발표한다
-//        Announcer.showStageResult(dealer.getPlayers()); // 📈 스테이지 결과 출력
-//    }
-//}
+import announcer.Announcer;
+import announcer.Verbosity;
+import dealer.Dealer;
+import dealer.ParallelStage;
+import dealer.SeedPolicy;
+import dealer.Table;
+import dealer.TableManager;
+import dealer.Tournament;
+import dealer.TournamentResult;
+import event.EventBus;
+import metrics.Metrics;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PokerHole {
+
+    private static final String HEADLESS = "headless";
+    private static final String TABLES = "tables";
+    private static final String TOURNAMENT = "tournament";
+
+    private static final int STAGE_MATCHES = 100;
+
+    // 인자 없이 실행하면 중계 모드, "[full|summary|stage] [매치 수]"로 상세도와 매치 수를 고를 수 있다.
+    // "headless <매치 수> <플레이어 수> <시드> [워커 수]"로 실행하면 헤드리스 시뮬레이션,
+    // "tables <테이블 수> <테이블당 매치 수> <플레이어 수> <시드>"로 실행하면 여러 테이블을 동시에 진행하고,
+    // "tournament <참가자 수> <시드>"로 실행하면 한 명이 남을 때까지 토너먼트를 진행한다
+    public static void main(String[] args) {
+        Metrics.registerMBean();
+        if (args.length > 0 && TOURNAMENT.equals(args[0])) {
+            if (args.length != 3) {
+                throw new IllegalArgumentException("사용법: PokerHole tournament <참가자 수> <시드>");
+            }
+            runTournament(Integer.parseInt(args[1]), Long.parseLong(args[2]));
+            return;
+        }
+        if (args.length > 0 && TABLES.equals(args[0])) {
+            if (args.length != 5) {
+                throw new IllegalArgumentException("사용법: PokerHole tables <테이블 수> <테이블당 매치 수> <플레이어 수> <시드>");
+            }
+            runTables(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]), Long.parseLong(args[4]));
+            return;
+        }
+        if (args.length > 0 && HEADLESS.equals(args[0])) {
+            if (args.length != 4 && args.length != 5) {
+                throw new IllegalArgumentException("사용법: PokerHole headless <매치 수> <플레이어 수> <시드> [워커 수]");
+            }
+            int workers = args.length == 5 ? Integer.parseInt(args[4]) : 1;
+            runHeadless(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Long.parseLong(args[3]), workers);
+            return;
+        }
+        Verbosity verbosity = args.length > 0 ? Verbosity.valueOf(args[0].toUpperCase()) : Verbosity.FULL;
+        int matches = args.length > 1 ? Integer.parseInt(args[1]) : STAGE_MATCHES;
+        runGameWithAnnouncer(verbosity, matches);
+    }
+
+    // 🤖 콘솔 출력 없이 매치만 반복하고, 끝난 뒤 처리량과 스테이지 결과만 출력한다
+    public static void runHeadless(int matches, int playerCount, long seed, int workers) {
+        if (matches <= 0) {
+            throw new IllegalArgumentException("매치 수는 1 이상이어야 합니다: " + matches);
+        }
+        if (playerCount < Dealer.MIN_PLAYER || playerCount > Dealer.MAX_PLAYER) {
+            throw new IllegalArgumentException("플레이어 수는 " + Dealer.MIN_PLAYER + "명부터 " + Dealer.MAX_PLAYER + "명 사이여야 합니다: " + playerCount);
+        }
+        SeedPolicy seedPolicy = SeedPolicy.fixed(seed);
+        Dealer dealer = Dealer.newDealer(seedPolicy);
+        dealer.retainLatest(1);
+        // 실행마다 같은 봇 이름을 쓰므로 전역이 아닌 이번 실행만의 이름 공간에 등록한다
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        for (int i = 0; i < playerCount; i++) {
+            dealer.enrollPlayer(Player.newPlayer("봇" + (i + 1), registry));
+        }
+
+        long start = System.nanoTime();
+        if (workers > 1) {
+            ParallelStage.play(dealer, matches, workers, seedPolicy);
+        } else {
+            for (int i = 0; i < matches; i++) {
+                dealer.newGame();
+                dealer.shuffle();
+                dealer.dealCard();
+                dealer.handOpen();
+                dealer.retrieveCard();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Announcer.simulationResult(matches, (long) matches * playerCount, elapsedNanos);
+        Announcer.stageWinner(dealer.getTotalStageWinner());
+        Announcer.showStageResult(dealer.getPlayers());
+        Announcer.flush();
+    }
+
+    // 🎰 테이블마다 봇을 앉혀 한꺼번에 진행하고, 끝난 뒤 전체 처리량과 집계만 출력한다
+    public static void runTables(int tables, int matches, int playerCount, long seed) {
+        if (tables <= 0 || matches <= 0) {
+            throw new IllegalArgumentException("테이블 수와 매치 수는 1 이상이어야 합니다.");
+        }
+        if (playerCount < Dealer.MIN_PLAYER || playerCount > Dealer.MAX_PLAYER) {
+            throw new IllegalArgumentException("플레이어 수는 " + Dealer.MIN_PLAYER + "명부터 " + Dealer.MAX_PLAYER + "명 사이여야 합니다: " + playerCount);
+        }
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        try (TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(seed))) {
+            for (int t = 0; t < tables; t++) {
+                Table table = manager.openTable();
+                for (int i = 0; i < playerCount; i++) {
+                    table.enroll(Player.newPlayer("봇" + (t + 1) + "-" + (i + 1), registry));
+                }
+            }
+
+            long start = System.nanoTime();
+            for (Table table : manager.tables()) {
+                table.start(matches);
+            }
+            manager.awaitAll();
+            long elapsedNanos = System.nanoTime() - start;
+
+            long total = (long) tables * matches;
+            Announcer.simulationResult(total, total * playerCount, elapsedNanos);
+            Announcer.tableResult(manager.stats(), manager.usesVirtualThreads());
+        }
+        Announcer.flush();
+    }
+
+    // 🏟️ 참가자를 여러 테이블에 나눠 앉히고 한 명이 남을 때까지 진행한 뒤 파이널 테이블 순위만 출력한다
+    public static void runTournament(int entrants, long seed) {
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        List<Player> players = new ArrayList<>(entrants);
+        for (int i = 0; i < entrants; i++) {
+            players.add(Player.newPlayer("참가자" + (i + 1), registry));
+        }
+        TournamentResult result = Tournament.newTournament(players, SeedPolicy.fixed(seed)).start().join();
+        Announcer.tournamentResult(result);
+        Announcer.flush();
+    }
+
+    public static void runGameWithAnnouncer() {
+        runGameWithAnnouncer(Verbosity.FULL, STAGE_MATCHES);
+    }
+
+    public static void runGameWithAnnouncer(Verbosity verbosity, int matches) {
+        // 🎩 딜러 입장. 중계는 이벤트를 받아 별도 스레드에서 출력한다
+        Dealer dealer = Dealer.newDealer();
+        if (verbosity == Verbosity.FULL) {
+            Announcer.enrollDealer(dealer);
+            Announcer.standbyStage();
+        }
+
+        try (EventBus eventBus = EventBus.newEventBus()) {
+            eventBus.subscribe("announcer", new Announcer(verbosity, matches));
+            dealer.publishTo(eventBus);
+
+            // 👥 플레이어 입장
+            dealer.enrollPlayer(Player.newPlayer("고니"));
+            dealer.enrollPlayer(Player.newPlayer("평경장"));
+            dealer.enrollPlayer(Player.newPlayer("짝귀"));
+            dealer.enrollPlayer(Player.newPlayer("아귀"));
+
+            // 💀 포커 matches판 진행
+            for (int i = 0; i < matches; i++) {
+                dealer.newGame();      // 🎲 새로운 게임을 시작한다
+                dealer.shuffle();      // 🔄 카드를 섞는다
+                dealer.dealCard();     // 🃏 카드를 나눠준다
+                dealer.handOpen();     // 👀 카드를 오픈하고 정산한다
+                dealer.retrieveCard(); // 🔚 카드를 회수한다
+            }
+
+            // 🏁 스테이지 결과 발표
+            dealer.endStage();
+        } finally {
+            Announcer.flush();
+        }
+    }
+}
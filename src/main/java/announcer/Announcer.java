@@ -1,118 +1,315 @@
-//// ⚠️ 테스트 안내: 모든 테스트가 성공하면 이 파일과 src/main/java/PokerHole.java의 주석을 제거하세요.
-//// 관련 파일: src/main/java/PokerHole.java
-//
-//
-//package announcer;
-//
-//import common.Hand;
-//import dealer.Dealer;
-//import player.Player;
-//
-//import java.util.*;
-//
-//public class Announcer {
-//
-//    private static final String[] medals = {"🥇", "🥈", "🥉", "💩"};
-//
-//    private static void printBanner(String symbol, String message, int length) {
-//        System.out.println("\n" + symbol + " " + "-".repeat(length));
-//        System.out.println(message);
-//        System.out.println(symbol + " " + "-".repeat(length) + "\n");
-//    }
-//
-//    public static void standbyStage() {
-//        printBanner("🎬", "🚀 새로운 스테이지가 시작되었습니다! 🚀", 30);
-//    }
-//
-//    public static void endStage() {
-//        printBanner("🏁", "🛑 스테이지가 종료되었습니다.", 30);
-//    }
-//
-//    public static void newGame() {
-//        printBanner("🎲", "✨ 새로운 매치를 시작합니다! ✨", 30);
-//    }
-//
-//    public static void endGame() {
-//        printBanner("🏆", "🛑 매치가 종료되었습니다.", 30);
-//    }
-//
-//    // 매치 승리자 발표
-//    public static void matchWinner(Player player) {
-//        String nickName = player.getNickName();
-//        player.openHand();
-//        Hand hand = player.getHand();
-//        System.out.println("🏆 " + nickName + "님이 " + hand.toString() + "로 승리하셨습니다!");
-//    }
-//
-//    public static void draw() {
-//        System.out.println("🤝 무승부입니다.");
-//    }
-//
-//    // 스테이지 승리자 발표
-//    public static void stageWinner(Optional<Player> totalStageWinner) {
-//        if (totalStageWinner.isPresent()) {
-//            Player player = totalStageWinner.get();
-//            String message = String.format(
-//                    "🎉 %s님이 최종 승리하셨습니다! %n🏆 최종 포인트 %d점, 전적 %s%d승 %s%d패 %s%d무",
-//                    player.getNickName(), player.getPoint(), "✅ ", player.getWins(), "❌ ", player.getLosses(), "🤝 ", player.getDraws()
-//            );
-//            System.out.println(message);
-//        } else {
-//            draw();
-//        }
-//    }
-//
-//    public static void showStageResult(List<Player> players) {
-//        System.out.println("🔔 스테이지 결과:");
-//        for (int i = 0; i < players.size(); i++) {
-//            Player player = players.get(i);
-//            String message = String.format(
-//                    "%s %s님의 포인트 %d점, 전적 %s%d승 %s%d패 %s%d무",
-//                    medals[i], player.getNickName(), player.getPoint(), "✅ ", player.getWins(), "❌ ", player.getLosses(), "🤝 ", player.getDraws()
-//            );
-//            System.out.println(message);
-//        }
-//    }
-//
-//    // 매치 결과 발표
-//    public static void openWinner(Optional<Player> optionalPlayer) {
-//        if (optionalPlayer.isPresent()) {
-//            matchWinner(optionalPlayer.get());
-//        } else {
-//            draw();
-//        }
-//    }
-//
-//    public static void matchResult(Map<String, String> matchResult) {
-//        System.out.println("🔍 매치 결과:");
-//        for (Map.Entry<String, String> entry : matchResult.entrySet()) {
-//            String nickName = entry.getKey();
-//            String hand = entry.getValue();
-//            System.out.println("🃏 " + nickName + "님의 패: " + hand);
-//        }
-//    }
-//
-//    public static void dealCard() {
-//        System.out.println("🃏 카드를 나눠주었습니다."); // 카드 배분 완료
-//    }
-//
-//    public static void cardShuffle() {
-//        System.out.println("🔄 카드를 섞었습니다."); // 카드 섞기 완료
-//    }
-//
-//    public static void handOpen() {
-//        System.out.println("🔍 카드를 오픈합니다."); // 카드 오픈
-//    }
-//
-//    public static void playStage() {
-//        System.out.println("💀 포커 100판 진행 💀");
-//    }
-//
-//    public static void enrollPlayer(Player player) {
-//        System.out.println("👥 " + player.getNickName() + "님이 입장하셨습니다.");
-//    }
-//
-//    public static void enrollDealer(Dealer dealer) {
-//        System.out.println("🎩 딜러가 입장하셨습니다.");
-//    }
-//}
+package announcer;
+
+import common.Hand;
+import dealer.Dealer;
+import dealer.MatchResult;
+import dealer.TableStats;
+import dealer.TournamentResult;
+import event.EventSubscriber;
+import event.MatchEvent;
+import player.Player;
+import player.PlayerRecord;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 콘솔 중계. 정적 메서드로 직접 부를 수도 있고, 인스턴스를 {@link event.EventBus}에 구독시키면
+ * 딜러가 발행한 이벤트를 자기 스레드에서 받아 같은 문구로 출력한다.
+ * <p>
+ * 모든 출력은 큰 UTF-8 버퍼 하나에 모였다가 내보낼 때의 {@link System#out}으로 나간다. 그래서
+ * {@link System#setOut}으로 바꾼 출력도 그대로 따른다. 구독자는 이벤트 묶음마다 한 번 내보내고,
+ * 정적 메서드를 직접 부른 쪽은 {@link #flush()}를 호출해야 한다.
+ */
+public class Announcer implements EventSubscriber {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final PrintWriter out = new PrintWriter(new BufferedWriter(
+            new OutputStreamWriter(new StandardOut(), StandardCharsets.UTF_8), BUFFER_SIZE), false);
+
+    private static final String[] medals = {"🥇", "🥈", "🥉"};
+    private static final String LAST_PLACE = "💩";
+    private static final String RULE = "-".repeat(30);
+
+    private static final String STANDBY_BANNER = banner("🎬", "🚀 새로운 스테이지가 시작되었습니다! 🚀");
+    private static final String END_STAGE_BANNER = banner("🏁", "🛑 스테이지가 종료되었습니다.");
+    private static final String NEW_GAME_BANNER = banner("🎲", "✨ 새로운 매치를 시작합니다! ✨");
+    private static final String END_GAME_BANNER = banner("🏆", "🛑 매치가 종료되었습니다.");
+
+    private final Verbosity verbosity;
+    private final int stageMatches;
+    // 스테이지 첫 매치 전에 진행 안내를 한 번 출력하기 위한 표시
+    private boolean stagePlaying;
+
+    public Announcer() {
+        this(Verbosity.FULL, 100);
+    }
+
+    // stageMatches는 진행 안내 문구에 쓸 스테이지 매치 수
+    public Announcer(Verbosity verbosity, int stageMatches) {
+        this.verbosity = Objects.requireNonNull(verbosity, "상세도는 null일 수 없습니다.");
+        this.stageMatches = stageMatches;
+    }
+
+    @Override
+    public void onEvents(List<MatchEvent> batch) {
+        for (MatchEvent event : batch) {
+            if (event instanceof MatchEvent.StageEnded ended) {
+                stagePlaying = false;
+                endStage();
+                stageResult(ended.standings());
+            } else if (verbosity == Verbosity.FULL) {
+                announce(event);
+            } else if (verbosity == Verbosity.SUMMARY && event instanceof MatchEvent.MatchSettled settled) {
+                matchSummary(settled);
+            }
+        }
+        flush();
+    }
+
+    private void announce(MatchEvent event) {
+        if (event instanceof MatchEvent.PlayerEnrolled enrolled) {
+            enrollPlayer(enrolled.nickName());
+        } else if (event instanceof MatchEvent.GameStarted) {
+            if (!stagePlaying) {
+                stagePlaying = true;
+                playStage(stageMatches);
+            }
+            newGame();
+        } else if (event instanceof MatchEvent.Shuffled) {
+            cardShuffle();
+        } else if (event instanceof MatchEvent.Dealt) {
+            dealCard();
+        } else if (event instanceof MatchEvent.HandsOpened opened) {
+            handOpen();
+            matchResult(opened.result());
+        } else if (event instanceof MatchEvent.MatchSettled settled) {
+            if (settled.isDraw()) {
+                draw();
+            } else {
+                matchWinner(settled.winner(), settled.describeWinnerHand());
+            }
+            endGame();
+        }
+    }
+
+    // 버퍼에 모인 출력을 내보낸다
+    public static void flush() {
+        out.flush();
+    }
+
+    private static String banner(String symbol, String message) {
+        String rule = symbol + " " + RULE;
+        return "\n" + rule + "\n" + message + "\n" + rule + "\n";
+    }
+
+    public static void standbyStage() {
+        out.println(STANDBY_BANNER);
+    }
+
+    public static void endStage() {
+        out.println(END_STAGE_BANNER);
+    }
+
+    public static void newGame() {
+        out.println(NEW_GAME_BANNER);
+    }
+
+    public static void endGame() {
+        out.println(END_GAME_BANNER);
+    }
+
+    // 매치 승리자 발표
+    public static void matchWinner(Player player) {
+        String nickName = player.getNickName();
+        player.openHand();
+        Hand hand = player.getHand();
+        matchWinner(nickName, hand.toString());
+    }
+
+    public static void matchWinner(String nickName, String hand) {
+        out.append("🏆 ").append(nickName).append("님이 ").append(hand).append("로 승리하셨습니다!\n");
+    }
+
+    public static void draw() {
+        out.println("🤝 무승부입니다.");
+    }
+
+    // 매치 결과 한 줄 요약
+    private static void matchSummary(MatchEvent.MatchSettled settled) {
+        out.append("🎲 #").append(String.valueOf(settled.matchId() + 1)).append(' ');
+        if (settled.isDraw()) {
+            out.append("🤝 무승부\n");
+        } else {
+            out.append("🏆 ").append(settled.winner()).append(' ').append(settled.describeWinnerHand()).append('\n');
+        }
+    }
+
+    // 스테이지 승리자 발표
+    public static void stageWinner(Optional<Player> totalStageWinner) {
+        if (totalStageWinner.isPresent()) {
+            Player player = totalStageWinner.get();
+            stageWinner(player.getNickName(), player.getRecord());
+        } else {
+            draw();
+        }
+    }
+
+    private static void stageWinner(String nickName, PlayerRecord record) {
+        out.println(String.format(
+                "🎉 %s님이 최종 승리하셨습니다! %n🏆 최종 포인트 %d점, 전적 %s%d승 %s%d패 %s%d무",
+                nickName, record.point(), "✅ ", record.wins(), "❌ ", record.losses(), "🤝 ", record.draws()
+        ));
+    }
+
+    // 이벤트로 받은 최종 순위 발표 (승자 + 전체 순위)
+    private static void stageResult(List<MatchEvent.StageEnded.Standing> standings) {
+        if (standings.isEmpty()) {
+            draw();
+            return;
+        }
+        stageWinner(standings.get(0).nickName(), standings.get(0).record());
+        out.println("🔔 스테이지 결과:");
+        for (int i = 0; i < standings.size(); i++) {
+            MatchEvent.StageEnded.Standing standing = standings.get(i);
+            standing(medal(i, standings.size()), standing.nickName(), standing.record());
+        }
+    }
+
+    public static void showStageResult(List<Player> players) {
+        out.println("🔔 스테이지 결과:");
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            standing(medal(i, players.size()), player.getNickName(), player.getRecord());
+        }
+    }
+
+    private static void standing(String medal, String nickName, PlayerRecord record) {
+        out.println(String.format(
+                "%s %s님의 포인트 %d점, 전적 %s%d승 %s%d패 %s%d무",
+                medal, nickName, record.point(), "✅ ", record.wins(), "❌ ", record.losses(), "🤝 ", record.draws()
+        ));
+    }
+
+    // 1~3위는 메달, 꼴찌는 💩, 그 사이는 순위 숫자
+    private static String medal(int index, int total) {
+        if (index < medals.length) {
+            return medals[index];
+        }
+        return index == total - 1 ? LAST_PLACE : (index + 1) + "위";
+    }
+
+    // 매치 결과 발표
+    public static void openWinner(Optional<Player> optionalPlayer) {
+        if (optionalPlayer.isPresent()) {
+            matchWinner(optionalPlayer.get());
+        } else {
+            draw();
+        }
+    }
+
+    public static void matchResult(Map<String, String> matchResult) {
+        out.println("🔍 매치 결과:");
+        for (Map.Entry<String, String> entry : matchResult.entrySet()) {
+            handLine(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // 패 문자열을 따로 만들지 않고 한 줄 버퍼에 바로 렌더링한다
+    public static void matchResult(MatchResult matchResult) {
+        out.println("🔍 매치 결과:");
+        StringBuilder line = new StringBuilder(80);
+        for (int seat = 0; seat < matchResult.seatCount(); seat++) {
+            line.setLength(0);
+            line.append("🃏 ").append(matchResult.nickName(seat)).append("님의 패: ");
+            matchResult.renderTo(seat, line).append('\n');
+            out.append(line);
+        }
+    }
+
+    private static void handLine(String nickName, String hand) {
+        out.append("🃏 ").append(nickName).append("님의 패: ").append(hand).append('\n');
+    }
+
+    public static void dealCard() {
+        out.println("🃏 카드를 나눠주었습니다."); // 카드 배분 완료
+    }
+
+    public static void cardShuffle() {
+        out.println("🔄 카드를 섞었습니다."); // 카드 섞기 완료
+    }
+
+    public static void handOpen() {
+        out.println("🔍 카드를 오픈합니다."); // 카드 오픈
+    }
+
+    public static void playStage() {
+        playStage(100);
+    }
+
+    public static void playStage(int matches) {
+        out.println("💀 포커 " + matches + "판 진행 💀");
+    }
+
+    public static void enrollPlayer(Player player) {
+        enrollPlayer(player.getNickName());
+    }
+
+    public static void enrollPlayer(String nickName) {
+        out.append("👥 ").append(nickName).append("님이 입장하셨습니다.\n");
+    }
+
+    // 헤드리스 시뮬레이션 처리량
+    public static void simulationResult(long matches, long hands, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        String message = String.format(
+                "⏱️ %,d판 %.3f초 | 초당 매치 %,.0f | 초당 핸드 평가 %,.0f",
+                matches, seconds, matches / seconds, hands / seconds
+        );
+        out.println(message);
+    }
+
+    public static void tableResult(TableStats stats, boolean virtualThreads) {
+        out.println(String.format("🎰 테이블 %,d개 | 플레이어 %,d명 | 무승부 %,d판 | 구동: %s",
+                stats.tables(), stats.players(), stats.draws(), virtualThreads ? "가상 스레드" : "작업 훔치기 풀"));
+    }
+
+    public static void tournamentResult(TournamentResult result) {
+        double seconds = Math.max(result.elapsedNanos(), 1) / 1_000_000_000.0;
+        out.println(String.format("🏟️ 참가자 %,d명 | %,d판 %.3f초 | 초당 매치 %,.0f",
+                result.standings().size(), result.matches(), seconds, result.matches() / seconds));
+        out.println("🪑 파이널 테이블");
+        List<Player> standings = result.standings();
+        // 파이널 테이블 인원이 그대로 최상위 순위를 차지한다
+        for (int i = 0; i < result.finalTable().size(); i++) {
+            out.println(medal(i, standings.size()) + " " + standings.get(i).getNickName());
+        }
+    }
+
+    public static void enrollDealer(Dealer dealer) {
+        out.println("🎩 딜러가 입장하셨습니다.");
+    }
+
+    // 버퍼를 비울 때마다 그 시점의 System.out에 넘긴다
+    private static final class StandardOut extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            System.out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            System.out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {
+            System.out.flush();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package announcer;
+
+/**
+ * 중계 상세도.
+ */
+public enum Verbosity {
+    // 매치 진행 단계마다 전부 출력
+    FULL,
+    // 매치마다 결과 한 줄
+    SUMMARY,
+    // 스테이지 결과만
+    STAGE
+}
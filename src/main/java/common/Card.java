@@ -0,0 +1,102 @@
+package common;
+
+import java.util.Objects;
+
+/**
+ * 불변 카드. {@link #of(Suit, Rank)} / {@link #of(int)}는 미리 만들어 둔 52개 인스턴스 중 하나를 돌려주므로
+ * 게임 중에는 카드 객체가 새로 생기지 않는다.
+ */
+public class Card implements Comparable<Card> {
+
+    // 카드 인덱스는 무늬 우선 배치: index = suit * 13 + rank (0..51)
+    public static final int DECK_SIZE = 52;
+    static final int RANKS_PER_SUIT = 13;
+
+    private static final Suit[] SUITS = Suit.values();
+    private static final Rank[] RANKS = Rank.values();
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        for (Suit suit : SUITS) {
+            for (Rank rank : RANKS) {
+                Card card = new Card(suit, rank);
+                CARDS[card.index] = card;
+            }
+        }
+    }
+
+    private final Suit suit;
+    private final Rank rank;
+    private final int index;
+    private final int ordinal; // 랭크 우선 정렬 순서: rank * 4 + suit
+    private final String text;
+
+    public Card(Suit suit, Rank rank) {
+        this.suit = Objects.requireNonNull(suit, "무늬(Suit)는 null일 수 없습니다.");
+        this.rank = Objects.requireNonNull(rank, "랭크(Rank)는 null일 수 없습니다.");
+        this.index = indexOf(suit, rank);
+        this.ordinal = rank.ordinal() * SUITS.length + suit.ordinal();
+        String symbol = rank.toString();
+        this.text = suit + (symbol.length() == 1 ? " " + symbol : symbol);
+    }
+
+    public static Card of(Suit suit, Rank rank) {
+        return CARDS[indexOf(Objects.requireNonNull(suit, "무늬(Suit)는 null일 수 없습니다."),
+                Objects.requireNonNull(rank, "랭크(Rank)는 null일 수 없습니다."))];
+    }
+
+    public static Card of(int index) {
+        if (index < 0 || index >= DECK_SIZE) {
+            throw new IllegalArgumentException("카드 인덱스는 0부터 " + (DECK_SIZE - 1) + " 사이여야 합니다: " + index);
+        }
+        return CARDS[index];
+    }
+
+    public static int indexOf(Suit suit, Rank rank) {
+        return suit.ordinal() * RANKS_PER_SUIT + rank.ordinal();
+    }
+
+    public static Suit suitOf(int index) {
+        return SUITS[index / RANKS_PER_SUIT];
+    }
+
+    public static Rank rankOf(int index) {
+        return RANKS[index % RANKS_PER_SUIT];
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Suit getSuit() {
+        return suit;
+    }
+
+    public Rank getRank() {
+        return rank;
+    }
+
+    // 랭크 우선, 같은 랭크는 무늬 순서로 비교
+    @Override
+    public int compareTo(Card other) {
+        return Integer.compare(ordinal, other.ordinal);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Card card)) return false;
+        return index == card.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    // "♣️ A", "♠️10" 처럼 랭크를 두 칸에 오른쪽 정렬
+    @Override
+    public String toString() {
+        return text;
+    }
+}
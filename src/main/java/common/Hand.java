@@ -0,0 +1,145 @@
+package common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다섯 장의 카드를 64비트 마스크 하나로 들고 있는 핸드.
+ * 비트 위치는 {@link Card#getIndex()}이며, 중복 검사·장수 제한·평가가 모두 비트 연산이다.
+ * {@link Card} 객체 API는 마스크 위의 얇은 뷰로만 제공된다.
+ */
+public class Hand implements Comparable<Hand> {
+
+    private static final int HAND_SIZE = HandEvaluator.HAND_SIZE;
+    private static final int NOT_OPENED = 0;
+
+    private long mask;
+    private int strength = NOT_OPENED;
+
+    public boolean add(Suit suit, Rank rank) {
+        if (suit == null || rank == null) {
+            throw new IllegalArgumentException("무늬와 랭크는 null일 수 없습니다.");
+        }
+        return add(Card.indexOf(suit, rank));
+    }
+
+    public boolean add(Card card) {
+        return add(card.getIndex());
+    }
+
+    public boolean add(int cardIndex) {
+        if (cardIndex < 0 || cardIndex >= Card.DECK_SIZE) {
+            throw new IllegalArgumentException("카드 인덱스는 0부터 " + (Card.DECK_SIZE - 1) + " 사이여야 합니다: " + cardIndex);
+        }
+        long bit = 1L << cardIndex;
+        if (Long.bitCount(mask) == HAND_SIZE) {
+            throw new IllegalStateException("핸드에는 최대 " + HAND_SIZE + "장까지만 받을 수 있습니다.");
+        }
+        if ((mask & bit) != 0) {
+            throw new IllegalArgumentException("이미 핸드에 있는 카드입니다: " + Card.of(cardIndex));
+        }
+        mask |= bit;
+        strength = NOT_OPENED;
+        return true;
+    }
+
+    // 카드를 모두 내려놓는다. 마스크만 비우므로 O(1)
+    public void clear() {
+        mask = 0;
+        strength = NOT_OPENED;
+    }
+
+    public Hand open() {
+        int size = size();
+        if (size != HAND_SIZE) {
+            throw new IllegalStateException("핸드를 오픈하려면 " + HAND_SIZE + "장이 필요합니다. 현재 " + size + "장");
+        }
+        strength = HandEvaluator.evaluate(mask);
+        return this;
+    }
+
+    public boolean isOpened() {
+        return strength != NOT_OPENED;
+    }
+
+    public Tier getTier() {
+        return HandEvaluator.tierOf(getStrength());
+    }
+
+    /**
+     * 1(가장 약한 하이카드)부터 7462(로열 플러시)까지의 패 강도. 값이 클수록 강하다.
+     */
+    public int getStrength() {
+        if (!isOpened()) {
+            throw new IllegalStateException("오픈되지 않은 핸드입니다. open()을 먼저 호출하세요.");
+        }
+        return strength;
+    }
+
+    /**
+     * 정확히 7장이 켜진 마스크(예: 홀덤의 홀 카드 2장과 공용 카드 5장)에서 가장 강한 5장 조합의 강도.
+     * 5장 핸드의 {@link #getStrength()}와 같은 척도이므로 그대로 비교할 수 있다. 조합을 만들지 않고 룩업만 하므로 할당이 없다.
+     */
+    public static int bestStrength(long mask) {
+        if (Long.bitCount(mask) != HandEvaluator.SEVEN_SIZE || mask >>> Card.DECK_SIZE != 0) {
+            throw new IllegalArgumentException("52장 안의 카드 " + HandEvaluator.SEVEN_SIZE + "장이 필요합니다. 현재 마스크: " + Long.toHexString(mask));
+        }
+        return HandEvaluator.evaluate7(mask);
+    }
+
+    // 강도(1..7462)가 속한 족보
+    public static Tier tierOf(int strength) {
+        if (strength < 1 || strength > HandEvaluator.MAX_STRENGTH) {
+            throw new IllegalArgumentException("강도는 1부터 " + HandEvaluator.MAX_STRENGTH + " 사이여야 합니다: " + strength);
+        }
+        return HandEvaluator.tierOf(strength);
+    }
+
+    public long getMask() {
+        return mask;
+    }
+
+    public List<Card> getCards() {
+        List<Card> cards = new ArrayList<>(HAND_SIZE);
+        for (long m = mask; m != 0; m &= m - 1) {
+            int index = Long.numberOfTrailingZeros(m);
+            cards.add(Card.of(index));
+        }
+        return cards;
+    }
+
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    // 강한 패가 앞에 오도록 정렬된다 (this가 더 강하면 음수)
+    @Override
+    public int compareTo(Hand other) {
+        return Integer.compare(other.getStrength(), getStrength());
+    }
+
+    @Override
+    public String toString() {
+        return describe(mask, strength);
+    }
+
+    /**
+     * 저장해 둔 마스크와 강도만으로 {@link #toString()}과 같은 문자열을 만든다.
+     * 강도가 0이면 오픈 전 핸드로 보고 족보를 붙이지 않는다.
+     */
+    public static String describe(long mask, int strength) {
+        return describe(new StringBuilder(40), mask, strength).toString();
+    }
+
+    // 같은 문자열을 sb 뒤에 이어 쓴다. 출력 버퍼를 재사용하면 핸드마다 문자열을 만들지 않는다
+    public static StringBuilder describe(StringBuilder sb, long mask, int strength) {
+        for (long m = mask; m != 0; m &= m - 1) {
+            sb.append(Card.of(Long.numberOfTrailingZeros(m)).toString());
+            if ((m & (m - 1)) != 0) sb.append(' ');
+        }
+        if (strength != NOT_OPENED) {
+            sb.append(" (").append(HandEvaluator.tierOf(strength).name()).append(')');
+        }
+        return sb;
+    }
+}
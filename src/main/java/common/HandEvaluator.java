@@ -0,0 +1,344 @@
+package common;
+
+import java.util.Arrays;
+
+/**
+ * 5장 핸드, 또는 7장 중 가장 강한 5장을 하나의 정수 강도(strength)로 바꾸는 룩업 테이블 평가기.
+ * <p>
+ * 강도는 1(7-5-4-3-2 하이카드)부터 7462(로열 플러시)까지의 등가 클래스 번호이며,
+ * 값이 클수록 강한 패다. 입력은 {@link Card#getIndex()} 비트를 모은 64비트 마스크로,
+ * 무늬마다 13비트 랭크 필드가 하나씩 있다.
+ * <ul>
+ *   <li>플러시: 무늬 필드(13비트)로 {@code FLUSH_TABLE}을 조회. 5장이 아닌 필드는 0이 들어 있다.</li>
+ *   <li>그 외: 랭크별 키의 합으로 {@code RANK_TABLE}을 조회 (5장 조합마다 합이 유일한 완전 해시).
+ *       키 합은 무늬 필드별 합 테이블 {@code KEY_SUMS} 네 번으로 구한다.</li>
+ * </ul>
+ * 플러시 값은 같은 랭크 구성의 비플러시 값보다 항상 크므로 다섯 값의 최댓값이 곧 강도이고, 분기가 없다.
+ * <p>
+ * 7장 평가({@link #evaluate7(long)})는 21가지 5장 조합을 만들지 않고 같은 구조를 7장으로 넓힌다.
+ * <ul>
+ *   <li>플러시: {@code FLUSH_TABLE}의 6·7비트 필드에 그 안의 가장 강한 5장 값을 미리 채워 둔다.
+ *       7장에서 5장 이상인 무늬는 많아야 하나다.</li>
+ *   <li>그 외: 랭크별 장수 구성(49,205가지)마다 가장 강한 5장 값을 {@code SEVEN_TABLE}에 둔다.
+ *       구성 번호는 낮은 7랭크·높은 6랭크의 5진수 장수를 무늬 필드별 테이블 {@code QUINARY} 네 번으로 더한 뒤
+ *       반쪽별 번호 테이블 두 개를 더해 구한다.</li>
+ * </ul>
+ * 테이블은 클래스 로딩 시 한 번만 만들어지고, 평가 시에는 정렬·그룹핑·할당이 없다.
+ */
+final class HandEvaluator {
+
+    static final int HAND_SIZE = 5;
+    static final int SEVEN_SIZE = 7;
+    static final int MAX_STRENGTH = 7462;
+
+    // 최대 4장까지 같은 랭크를 포함한 5장 조합의 키 합이 모두 서로 다르도록 고른 값 (Rank 순서)
+    private static final int[] RANK_KEYS = {0, 1, 5, 22, 94, 312, 992, 2422, 5624, 12522, 19998, 43258, 79415};
+
+    private static final int RANKS = RANK_KEYS.length;
+    private static final int RANK_FIELD = (1 << RANKS) - 1;
+    private static final int WHEEL = 0b1_0000_0000_1111; // A-2-3-4-5
+
+    private static final int[] KEY_SUMS = new int[1 << RANKS];
+    private static final short[] RANK_TABLE = new short[4 * RANK_KEYS[RANKS - 1] + RANK_KEYS[RANKS - 2] + 1];
+    private static final short[] FLUSH_TABLE = new short[1 << RANKS];
+    private static final Tier[] TIERS = new Tier[MAX_STRENGTH + 1];
+
+    // 7장 랭크 구성 번호: 무늬 필드 → (낮은 7랭크 5진수 | 높은 6랭크 5진수 << 17), 반쪽 5진수 → 번호 조각
+    private static final int LOW_RANKS = 7;
+    private static final int LOW_QUINARY_BITS = 17;
+    private static final int LOW_QUINARY_MASK = (1 << LOW_QUINARY_BITS) - 1;
+    private static final int[] QUINARY = new int[1 << RANKS];
+    private static final char[] LOW_INDEX = new char[pow5(LOW_RANKS)];
+    private static final char[] HIGH_INDEX = new char[pow5(RANKS - LOW_RANKS)];
+    private static final short[] SEVEN_TABLE = new short[49_205];
+
+    static {
+        buildTables();
+    }
+
+    private HandEvaluator() {
+    }
+
+    /**
+     * @param mask 정확히 5개의 카드 비트가 켜진 마스크
+     * @return 1..{@value #MAX_STRENGTH} 범위의 강도
+     */
+    static int evaluate(long mask) {
+        int clubs = (int) mask & RANK_FIELD;
+        int diamonds = (int) (mask >>> RANKS) & RANK_FIELD;
+        int hearts = (int) (mask >>> (2 * RANKS)) & RANK_FIELD;
+        int spades = (int) (mask >>> (3 * RANKS)) & RANK_FIELD;
+        int plain = RANK_TABLE[KEY_SUMS[clubs] + KEY_SUMS[diamonds] + KEY_SUMS[hearts] + KEY_SUMS[spades]];
+        int flush = Math.max(Math.max(FLUSH_TABLE[clubs], FLUSH_TABLE[diamonds]),
+                Math.max(FLUSH_TABLE[hearts], FLUSH_TABLE[spades]));
+        return Math.max(plain, flush);
+    }
+
+    /**
+     * @param mask 정확히 7개의 카드 비트가 켜진 마스크
+     * @return 7장 중 가장 강한 5장의 강도. 5장 {@link #evaluate(long)}와 같은 척도다
+     */
+    static int evaluate7(long mask) {
+        int clubs = (int) mask & RANK_FIELD;
+        int diamonds = (int) (mask >>> RANKS) & RANK_FIELD;
+        int hearts = (int) (mask >>> (2 * RANKS)) & RANK_FIELD;
+        int spades = (int) (mask >>> (3 * RANKS)) & RANK_FIELD;
+        int quinary = QUINARY[clubs] + QUINARY[diamonds] + QUINARY[hearts] + QUINARY[spades];
+        int plain = SEVEN_TABLE[LOW_INDEX[quinary & LOW_QUINARY_MASK] + HIGH_INDEX[quinary >>> LOW_QUINARY_BITS]];
+        int flush = Math.max(Math.max(FLUSH_TABLE[clubs], FLUSH_TABLE[diamonds]),
+                Math.max(FLUSH_TABLE[hearts], FLUSH_TABLE[spades]));
+        return Math.max(plain, flush);
+    }
+
+    static Tier tierOf(int strength) {
+        return TIERS[strength];
+    }
+
+    // ---- 테이블 생성 (클래스 로딩 시 1회) ----
+
+    private static void buildTables() {
+        for (int field = 1; field < KEY_SUMS.length; field++) {
+            int lowest = Integer.numberOfTrailingZeros(field);
+            KEY_SUMS[field] = KEY_SUMS[field & (field - 1)] + RANK_KEYS[lowest];
+        }
+
+        long[] scores = new long[RANK_TABLE.length];
+        int[] keySums = new int[RANK_TABLE.length];
+        int[] count = {0};
+        enumerate(new int[RANKS], 0, HAND_SIZE, scores, keySums, count);
+
+        int plain = count[0];
+        int[] flushMasks = new int[FLUSH_TABLE.length];
+        for (int mask = 0; mask < FLUSH_TABLE.length; mask++) {
+            if (Integer.bitCount(mask) == HAND_SIZE) {
+                flushMasks[count[0] - plain] = mask;
+                scores[count[0]++] = score(countsOf(mask), true);
+            }
+        }
+
+        long[] distinct = Arrays.stream(scores, 0, count[0]).distinct().sorted().toArray();
+        if (distinct.length != MAX_STRENGTH) {
+            throw new IllegalStateException("핸드 등가 클래스 수가 올바르지 않습니다: " + distinct.length);
+        }
+        for (int i = 0; i < distinct.length; i++) {
+            TIERS[i + 1] = Tier.values()[(int) (distinct[i] >>> 20)];
+        }
+        for (int i = 0; i < plain; i++) {
+            RANK_TABLE[keySums[i]] = (short) (Arrays.binarySearch(distinct, scores[i]) + 1);
+        }
+        for (int i = plain; i < count[0]; i++) {
+            FLUSH_TABLE[flushMasks[i - plain]] = (short) (Arrays.binarySearch(distinct, scores[i]) + 1);
+        }
+        buildSevenTables();
+    }
+
+    private static void buildSevenTables() {
+        // 6·7장 무늬 필드는 한 장씩 뺀 필드 중 가장 강한 값. 뺀 필드가 더 작으므로 오름차순으로 채우면 된다
+        for (int field = 0; field < FLUSH_TABLE.length; field++) {
+            int size = Integer.bitCount(field);
+            if (size > HAND_SIZE && size <= SEVEN_SIZE) {
+                for (int m = field; m != 0; m &= m - 1) {
+                    FLUSH_TABLE[field] = (short) Math.max(FLUSH_TABLE[field], FLUSH_TABLE[field & ~Integer.lowestOneBit(m)]);
+                }
+            }
+        }
+
+        for (int field = 0; field < QUINARY.length; field++) {
+            int low = 0;
+            int high = 0;
+            for (int r = 0; r < RANKS; r++) {
+                if ((field >>> r & 1) != 0) {
+                    if (r < LOW_RANKS) {
+                        low += pow5(r);
+                    } else {
+                        high += pow5(r - LOW_RANKS);
+                    }
+                }
+            }
+            QUINARY[field] = low | high << LOW_QUINARY_BITS;
+        }
+
+        // ways[r][k]: 랭크 0..r-1에 k장을 (랭크당 최대 4장) 놓는 경우의 수
+        int[][] ways = new int[RANKS + 1][SEVEN_SIZE + 1];
+        ways[0][0] = 1;
+        for (int r = 1; r <= RANKS; r++) {
+            for (int k = 0; k <= SEVEN_SIZE; k++) {
+                for (int n = 0; n <= Math.min(4, k); n++) {
+                    ways[r][k] += ways[r - 1][k - n];
+                }
+            }
+        }
+        if (ways[RANKS][SEVEN_SIZE] != SEVEN_TABLE.length) {
+            throw new IllegalStateException("7장 랭크 구성 수가 올바르지 않습니다: " + ways[RANKS][SEVEN_SIZE]);
+        }
+        // 높은 랭크부터 사전식으로 번호를 매기면 높은 반쪽과 낮은 반쪽의 몫이 서로 독립이다
+        fillIndex(HIGH_INDEX, LOW_RANKS, RANKS, ways, false);
+        fillIndex(LOW_INDEX, 0, LOW_RANKS, ways, true);
+
+        boolean[] filled = new boolean[SEVEN_TABLE.length];
+        enumerateSeven(new int[RANKS], RANKS - 1, SEVEN_SIZE, filled);
+        for (boolean f : filled) {
+            if (!f) {
+                throw new IllegalStateException("채워지지 않은 7장 랭크 구성이 있습니다.");
+            }
+        }
+    }
+
+    // [from, to) 랭크의 5진수 장수마다 구성 번호 조각을 채운다. 낮은 반쪽은 그 반쪽의 장수만큼이 남은 상태에서 시작한다
+    private static void fillIndex(char[] index, int from, int to, int[][] ways, boolean lowHalf) {
+        for (int quinary = 0; quinary < index.length; quinary++) {
+            int total = 0;
+            for (int q = quinary; q != 0; q /= 5) {
+                total += q % 5;
+            }
+            if (total > SEVEN_SIZE) {
+                continue;
+            }
+            int remaining = lowHalf ? total : SEVEN_SIZE;
+            int offset = 0;
+            for (int r = to - 1; r >= from; r--) {
+                int n = quinary / pow5(r - from) % 5;
+                for (int fewer = 0; fewer < n; fewer++) {
+                    if (remaining - fewer >= 0) {
+                        offset += ways[r][remaining - fewer];
+                    }
+                }
+                remaining -= n;
+            }
+            index[quinary] = (char) offset;
+        }
+    }
+
+    // 랭크별 장수(최대 4장)로 만들 수 있는 모든 7장 구성마다 두 장을 뺀 5장 중 최댓값을 기록
+    private static void enumerateSeven(int[] counts, int rank, int remaining, boolean[] filled) {
+        if (remaining == 0) {
+            int low = 0;
+            int high = 0;
+            int keySum = 0;
+            for (int r = 0; r < RANKS; r++) {
+                keySum += counts[r] * RANK_KEYS[r];
+                if (r < LOW_RANKS) {
+                    low += counts[r] * pow5(r);
+                } else {
+                    high += counts[r] * pow5(r - LOW_RANKS);
+                }
+            }
+            int best = 0;
+            for (int a = 0; a < RANKS; a++) {
+                for (int b = a; b < RANKS; b++) {
+                    if (counts[a] > 0 && counts[b] > (a == b ? 1 : 0)) {
+                        best = Math.max(best, RANK_TABLE[keySum - RANK_KEYS[a] - RANK_KEYS[b]]);
+                    }
+                }
+            }
+            int index = LOW_INDEX[low] + HIGH_INDEX[high];
+            if (filled[index]) {
+                throw new IllegalStateException("7장 랭크 구성 번호가 겹칩니다: " + index);
+            }
+            filled[index] = true;
+            SEVEN_TABLE[index] = (short) best;
+            return;
+        }
+        if (rank < 0) {
+            return;
+        }
+        for (int n = Math.min(4, remaining); n >= 0; n--) {
+            counts[rank] = n;
+            enumerateSeven(counts, rank - 1, remaining - n, filled);
+        }
+        counts[rank] = 0;
+    }
+
+    private static int pow5(int exponent) {
+        int power = 1;
+        for (int i = 0; i < exponent; i++) {
+            power *= 5;
+        }
+        return power;
+    }
+
+    // 랭크별 장수(최대 4장)로 만들 수 있는 모든 5장 조합을 순회
+    private static void enumerate(int[] counts, int rank, int remaining, long[] scores, int[] keySums, int[] count) {
+        if (remaining == 0) {
+            int keySum = 0;
+            for (int r = 0; r < RANKS; r++) {
+                keySum += counts[r] * RANK_KEYS[r];
+            }
+            keySums[count[0]] = keySum;
+            scores[count[0]++] = score(counts, false);
+            return;
+        }
+        if (rank == RANKS) {
+            return;
+        }
+        for (int n = Math.min(4, remaining); n >= 0; n--) {
+            counts[rank] = n;
+            enumerate(counts, rank + 1, remaining - n, scores, keySums, count);
+        }
+        counts[rank] = 0;
+    }
+
+    private static int[] countsOf(int rankBits) {
+        int[] counts = new int[RANKS];
+        for (int r = 0; r < RANKS; r++) {
+            counts[r] = (rankBits >>> r) & 1;
+        }
+        return counts;
+    }
+
+    /**
+     * 족보(상위 비트) + 핵심 카드·키커 랭크(4비트씩, 중요도 순)로 정렬 가능한 점수를 만든다.
+     * 테이블 생성 시에만 쓰이는 느린 경로다.
+     */
+    private static long score(int[] counts, boolean flush) {
+        int rankBits = 0;
+        long kickers = 0;
+        int groups = 0;
+        int maxGroup = 0;
+        for (int n = 4; n >= 1; n--) {
+            for (int r = RANKS - 1; r >= 0; r--) {
+                if (counts[r] == n) {
+                    kickers = (kickers << 4) | r;
+                    rankBits |= 1 << r;
+                    groups++;
+                    maxGroup = Math.max(maxGroup, n);
+                }
+            }
+        }
+
+        int straightHigh = -1;
+        if (groups == HAND_SIZE) {
+            if (rankBits == WHEEL) {
+                straightHigh = Rank.FIVE.ordinal();
+            } else if (rankBits >>> Integer.numberOfTrailingZeros(rankBits) == 0b1_1111) {
+                straightHigh = 31 - Integer.numberOfLeadingZeros(rankBits);
+            }
+        }
+
+        Tier tier;
+        if (straightHigh >= 0 && flush) {
+            tier = straightHigh == Rank.ACE.ordinal() ? Tier.ROYAL_FLUSH : Tier.STRAIGHT_FLUSH;
+        } else if (maxGroup == 4) {
+            tier = Tier.FOUR_OF_A_KIND;
+        } else if (maxGroup == 3 && groups == 2) {
+            tier = Tier.FULL_HOUSE;
+        } else if (flush) {
+            tier = Tier.FLUSH;
+        } else if (straightHigh >= 0) {
+            tier = Tier.STRAIGHT;
+        } else if (maxGroup == 3) {
+            tier = Tier.THREE_OF_A_KIND;
+        } else if (maxGroup == 2 && groups == 3) {
+            tier = Tier.TWO_PAIR;
+        } else if (maxGroup == 2) {
+            tier = Tier.ONE_PAIR;
+        } else {
+            tier = Tier.HIGH_CARD;
+        }
+
+        if (straightHigh >= 0) {
+            kickers = straightHigh;
+        }
+        return ((long) tier.ordinal() << 20) | kickers;
+    }
+}
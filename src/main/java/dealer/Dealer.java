@@ -0,0 +1,482 @@
+package dealer;
+
+import event.EventBus;
+import event.MatchEvent;
+import ledger.PointLedger;
+import metrics.Metrics;
+import metrics.Phase;
+import player.Leaderboard;
+import player.Player;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * 매치 진행을 맡는 딜러.
+ * <p>
+ * 진행 단계({@link DealerState})는 volatile 필드 하나에 두고 CAS로만 바꾼다. 각 호출은 단계를 먼저 차지한 뒤
+ * 일을 하고 다음 단계를 기록하므로 락 없이도 여러 스레드(예: 네트워크 요청과 타이머)가 한 딜러를 번갈아 움직일 수 있고,
+ * 단계를 기록할 때 그 전까지의 변경이 다음 호출 스레드에 보인다. 순서가 틀리거나 다른 호출이 처리 중이면
+ * 기다리지 않고 {@link IllegalStateException}을 던진다. 모니터링 스레드는 {@link #getState()}로 막힘 없이 단계를 읽는다.
+ */
+public class Dealer {
+
+    public static final int MIN_PLAYER = 2;
+    public static final int MAX_PLAYER = 4;
+    public static final int HAND_SIZE = 5;
+    public static final int BET_POINT = 100;
+
+    private static final VarHandle STATE;
+    private static final AtomicLong TABLE_IDS = new AtomicLong();
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Dealer.class, "state", DealerState.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long tableId = TABLE_IDS.incrementAndGet();
+    private final Deck deck;
+    private final List<Player> players = new ArrayList<>(MAX_PLAYER);
+    // 스테이지 순위: 포인트 → 승 → 적은 패 → 입장 순. 정산할 때마다 갱신된다
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final MatchHistory matchHistory = new MatchHistory();
+    private final MatchHistory.Winners winsHistory = matchHistory.winners();
+    // 보관 상한과 무관하게 모든 매치를 누적한 집계
+    private long matchCount;
+    private long drawCount;
+    private final int[] strengths = new int[MAX_PLAYER];
+    private int betPoint = BET_POINT;
+    private boolean allIn;
+    // 진 사람은 판돈을 내고, 가장 강한 패를 가진 사람(들)이 나눠 갖는다
+    private PointLedger ledger = PointLedger.newLedger();
+    private MatchLogWriter matchLog;
+    private EventBus eventBus;
+    // 좌석이 바뀔 때마다 새로 만든다. 매치 기록은 치를 때의 배치를 붙들고 있다
+    private Seating seating = Seating.EMPTY;
+    private volatile DealerState state = DealerState.READY;
+
+    private Dealer(Deck deck) {
+        this.deck = deck;
+    }
+
+    public static Dealer newDealer() {
+        return new Dealer(Deck.newDeck());
+    }
+
+    // 테이블 전용 난수 스트림으로 셔플한다. 생성기는 이 딜러만 써야 한다
+    public static Dealer newDealer(RandomGenerator random) {
+        return new Dealer(Deck.newDeck(random));
+    }
+
+    public static Dealer newDealer(SeedPolicy seedPolicy) {
+        return newDealer(seedPolicy.nextStream());
+    }
+
+    public Player enrollPlayer(Player player) {
+        Objects.requireNonNull(player, "플레이어는 null일 수 없습니다.");
+        claim(DealerState.READY, DealerState.ENROLLING, "게임 진행 중에는 플레이어를 등록할 수 없습니다.");
+        try {
+            if (players.contains(player)) {
+                throw new IllegalArgumentException("이미 등록된 플레이어입니다: " + player.getNickName());
+            }
+            if (players.size() == MAX_PLAYER) {
+                throw new IllegalStateException("플레이어는 최대 " + MAX_PLAYER + "명까지 등록할 수 있습니다.");
+            }
+            players.add(player);
+            leaderboard.add(player);
+            seating = Seating.of(players);
+        } finally {
+            state = DealerState.READY;
+        }
+        if (eventBus != null) {
+            eventBus.publish(new MatchEvent.PlayerEnrolled(player.getNickName()));
+        }
+        return player;
+    }
+
+    // 다음 매치부터 자리를 비운다. 포인트·전적은 플레이어에 그대로 남는다
+    public void removePlayer(Player player) {
+        Objects.requireNonNull(player, "플레이어는 null일 수 없습니다.");
+        claim(DealerState.READY, DealerState.ENROLLING, "게임 진행 중에는 플레이어를 내보낼 수 없습니다.");
+        try {
+            if (!players.remove(player)) {
+                throw new IllegalArgumentException("등록되지 않은 플레이어입니다: " + player.getNickName());
+            }
+            leaderboard.remove(player);
+            seating = Seating.of(players);
+        } finally {
+            state = DealerState.READY;
+        }
+    }
+
+    public void newGame() {
+        long start = Metrics.start(Phase.NEW_GAME);
+        claim(DealerState.READY, DealerState.STARTED, "이전 게임이 끝나지 않았습니다. retrieveCard()로 게임을 정리하세요.");
+        FlightEvents.MatchStarted started = new FlightEvents.MatchStarted();
+        if (started.shouldCommit()) {
+            started.tableId = tableId;
+            started.matchId = matchCount;
+            started.players = players.size();
+            started.commit();
+        }
+        if (eventBus != null) {
+            eventBus.publish(new MatchEvent.GameStarted(matchCount));
+        }
+        Metrics.stop(Phase.NEW_GAME, start);
+    }
+
+    public void shuffle() {
+        long start = Metrics.start(Phase.SHUFFLE);
+        claim(DealerState.STARTED, DealerState.SHUFFLING, "newGame() 이후에만 카드를 섞을 수 있습니다.");
+        FlightEvents.Shuffle shuffled = new FlightEvents.Shuffle();
+        shuffled.begin();
+        // 이번 게임에 실제로 나갈 장수만 섞는다
+        int cards = players.size() * HAND_SIZE;
+        try {
+            deck.shuffle(cards);
+        } catch (RuntimeException e) {
+            state = DealerState.STARTED;
+            throw e;
+        }
+        if (shuffled.shouldCommit()) {
+            shuffled.tableId = tableId;
+            shuffled.matchId = matchCount;
+            shuffled.players = players.size();
+            shuffled.cards = cards;
+            shuffled.commit();
+        }
+        state = DealerState.SHUFFLED;
+        if (eventBus != null) {
+            eventBus.publish(new MatchEvent.Shuffled(matchCount));
+        }
+        Metrics.stop(Phase.SHUFFLE, start);
+    }
+
+    public void dealCard() {
+        long start = Metrics.start(Phase.DEAL_CARD);
+        claim(DealerState.SHUFFLED, DealerState.DEALING, "shuffle() 이후에만 카드를 나눠줄 수 있습니다.");
+        if (players.size() < MIN_PLAYER) {
+            state = DealerState.SHUFFLED;
+            throw new IllegalStateException("게임을 하려면 플레이어가 최소 " + MIN_PLAYER + "명 필요합니다.");
+        }
+        FlightEvents.Deal dealt = new FlightEvents.Deal();
+        dealt.begin();
+        try {
+            for (int round = 0; round < HAND_SIZE; round++) {
+                for (Player player : players) {
+                    player.receiveCard(deck.drawCard());
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            // 나눠준 카드를 거두고 커서만 되돌리면 섞어 둔 순서 그대로 다시 나눠줄 수 있다
+            for (Player player : players) {
+                player.clearHand();
+            }
+            deck.retrieve();
+            state = DealerState.SHUFFLED;
+            throw e;
+        }
+        if (dealt.shouldCommit()) {
+            dealt.tableId = tableId;
+            dealt.matchId = matchCount;
+            dealt.players = players.size();
+            dealt.commit();
+        }
+        state = DealerState.DEALT;
+        if (eventBus != null) {
+            eventBus.publish(new MatchEvent.Dealt(matchCount));
+        }
+        Metrics.stop(Phase.DEAL_CARD, start);
+    }
+
+    public void handOpen() {
+        long start = Metrics.start(Phase.HAND_OPEN);
+        claim(DealerState.DEALT, DealerState.OPENING, "dealCard() 이후에만 카드를 오픈할 수 있습니다.");
+        FlightEvents.MatchSettled settled = new FlightEvents.MatchSettled();
+        settled.begin();
+        FlightEvents.HandEvaluation evaluated = new FlightEvents.HandEvaluation();
+        evaluated.begin();
+        int bestSeat = 0;
+        int winnerSeat;
+        // 정산이 반영되기 전까지는 아무것도 바뀌지 않으므로 실패하면 DEALT로 되돌려 다시 오픈할 수 있다
+        try {
+            // 핸드 한 장마다 재면 계측이 평가보다 비싸므로 좌석 전원의 평가를 한 구간으로 잰다
+            long evaluateStart = Metrics.start(Phase.HAND_EVALUATE);
+            for (int seat = 0; seat < players.size(); seat++) {
+                strengths[seat] = players.get(seat).openHand().getStrength();
+                if (strengths[seat] > strengths[bestSeat]) {
+                    bestSeat = seat;
+                }
+            }
+            Metrics.stop(Phase.HAND_EVALUATE, evaluateStart);
+            winnerSeat = allIn
+                    ? ledger.settleAllIn(matchCount, players, strengths, betPoint)
+                    : ledger.settlePot(matchCount, players, strengths, betPoint);
+        } catch (RuntimeException | Error e) {
+            state = DealerState.DEALT;
+            throw e;
+        }
+        if (evaluated.shouldCommit()) {
+            evaluated.tableId = tableId;
+            evaluated.matchId = matchCount;
+            evaluated.hands = players.size();
+            evaluated.commit();
+        }
+        matchHistory.begin(matchCount, seating);
+        for (int seat = 0; seat < players.size(); seat++) {
+            matchHistory.seat(seat, players.get(seat).getHand().getMask(), strengths[seat]);
+        }
+        matchHistory.finish(winnerSeat);
+        // 정산이 끝난 매치는 되돌리면 두 번 정산하게 된다. 로그 쓰기에 실패해도 OPENED까지 마치고 예외를 전한다
+        RuntimeException logFailure = null;
+        if (matchLog != null) {
+            try {
+                matchLog.append(matchHistory, matchHistory.size() - 1);
+            } catch (RuntimeException e) {
+                logFailure = e;
+            }
+        }
+        // 이벤트는 다음 매치가 기록을 덮어쓰기 전에 만들어 두고, OPENED로 넘긴 뒤에 발행한다
+        MatchEvent.HandsOpened opened = null;
+        MatchEvent.MatchSettled result = null;
+        if (eventBus != null) {
+            opened = new MatchEvent.HandsOpened(resultOf(matchHistory.size() - 1));
+            result = settledEvent(opened.result(), winnerSeat);
+        }
+        if (settled.shouldCommit()) {
+            settled.tableId = tableId;
+            settled.matchId = matchCount;
+            settled.players = players.size();
+            settled.winnerSeat = winnerSeat;
+            settled.winningTier = players.get(bestSeat).getHand().getTier().name();
+            settled.commit();
+        }
+        matchCount++;
+        if (winnerSeat == MatchHistory.NO_WINNER) {
+            drawCount++;
+        }
+        state = DealerState.OPENED;
+        Metrics.stop(Phase.HAND_OPEN, start);
+        // 버스가 닫혔거나 구독자가 멈춰 발행이 실패해도 매치는 이미 끝났으므로 로그 실패와 함께 마지막에 전한다
+        RuntimeException failure = logFailure;
+        if (eventBus != null) {
+            try {
+                eventBus.publish(opened);
+                eventBus.publish(result);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static MatchEvent.MatchSettled settledEvent(MatchResult result, int winnerSeat) {
+        return winnerSeat == MatchHistory.NO_WINNER
+                ? new MatchEvent.MatchSettled(result.matchId(), null, 0, 0)
+                : new MatchEvent.MatchSettled(result.matchId(), result.nickName(winnerSeat), result.hand(winnerSeat), result.strength(winnerSeat));
+    }
+
+    // 보관 중인 index번째 기록을 값만 담은 결과로 꺼낸다
+    private MatchResult resultOf(int index) {
+        int seats = matchHistory.seatCount(index);
+        long[] hands = new long[seats];
+        int[] strengths = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            hands[seat] = matchHistory.handMask(index, seat);
+            strengths[seat] = matchHistory.strength(index, seat);
+        }
+        return new MatchResult(matchHistory.matchId(index), matchHistory.seating(index).nickNames(), hands, strengths,
+                matchHistory.winnerSeat(index));
+    }
+
+    public void retrieveCard() {
+        long start = Metrics.start(Phase.RETRIEVE_CARD);
+        claim(DealerState.OPENED, DealerState.RETRIEVING, "handOpen() 이후에만 카드를 회수할 수 있습니다.");
+        try {
+            for (Player player : players) {
+                player.clearHand();
+            }
+        } catch (RuntimeException | Error e) {
+            state = DealerState.OPENED;
+            throw e;
+        }
+        deck.retrieve();
+        state = DealerState.READY;
+        Metrics.stop(Phase.RETRIEVE_CARD, start);
+    }
+
+    // expected 단계를 CAS로 차지한다. 실패하면 순서 위반인지 다른 호출이 처리 중인지 알려준다
+    private void claim(DealerState expected, DealerState next, String message) {
+        DealerState witness = (DealerState) STATE.compareAndExchange(this, expected, next);
+        if (witness != expected) {
+            throw new IllegalStateException(witness.isBusy()
+                    ? "다른 호출이 처리 중입니다(" + witness + "). " + message
+                    : message);
+        }
+    }
+
+    // 병렬 스테이지가 끝날 때까지 딜러를 차지한다. 그동안 다른 호출은 처리 중으로 거부된다
+    void claimStage() {
+        if (matchLog != null) {
+            throw new IllegalStateException("매치 로그를 쓰는 딜러로는 병렬 스테이지를 진행할 수 없습니다.");
+        }
+        claim(DealerState.READY, DealerState.STAGING, "진행 중인 게임이 있는 딜러로는 스테이지를 시작할 수 없습니다.");
+    }
+
+    // 워커 딜러의 누적 집계와 보관 기록을 이어 붙인다. 매치 번호는 이 딜러의 번호로 다시 매긴다
+    void absorb(Dealer worker) {
+        int retained = worker.matchHistory.size();
+        long first = matchCount + worker.matchCount - retained;
+        for (int i = 0; i < retained; i++) {
+            matchHistory.copy(worker.matchHistory, i, first + i, seating);
+        }
+        matchCount += worker.matchCount;
+        drawCount += worker.drawCount;
+    }
+
+    void releaseStage() {
+        state = DealerState.READY;
+    }
+
+    // 보관할 최근 매치 수. 상한이 없으면 Integer.MAX_VALUE
+    int retention() {
+        return matchHistory.retention();
+    }
+
+    // 프로세스 안에서 딜러(테이블)마다 붙는 고유 번호. 1부터 만든 순서대로 매겨진다
+    public long getTableId() {
+        return tableId;
+    }
+
+    // 게임 스레드를 막지 않고 현재 단계를 읽는다
+    public DealerState getState() {
+        return state;
+    }
+
+    /**
+     * 최근 matches판의 기록만 보관한다. 오래된 기록은 버려지고 {@link #getMatchCount()} 같은 누적 집계에만 남으므로
+     * 오래 도는 테이블에서도 메모리가 일정하다. 기본은 전부 보관한다.
+     */
+    public void retainLatest(int matches) {
+        matchHistory.limit(matches);
+    }
+
+    // 이후 매치 결과를 로그에도 남긴다. 로그를 닫는 것은 호출한 쪽의 몫이다
+    public void recordTo(MatchLogWriter matchLog) {
+        this.matchLog = Objects.requireNonNull(matchLog, "매치 로그는 null일 수 없습니다.");
+    }
+
+    // 다음 매치부터 진 사람이 내는 판돈. 토너먼트처럼 판돈이 오르는 진행에서는 게임을 움직이는 쪽이 매치 사이에 바꾼다
+    public void setBetPoint(int betPoint) {
+        if (betPoint <= 0) {
+            throw new IllegalArgumentException("판돈은 1 이상이어야 합니다: " + betPoint);
+        }
+        this.betPoint = betPoint;
+    }
+
+    public int getBetPoint() {
+        return betPoint;
+    }
+
+    // 켜면 진 사람이 판돈보다 포인트가 적을 때 남은 포인트만 낸다(올인). 포인트가 0 아래로 내려가지 않는다
+    public void setAllIn(boolean allIn) {
+        this.allIn = allIn;
+    }
+
+    public boolean isAllIn() {
+        return allIn;
+    }
+
+    // 이후 판돈 정산을 주어진 원장으로 한다. 여러 테이블이 한 원장(과 저널)을 함께 쓸 수 있다
+    public void settleWith(PointLedger ledger) {
+        this.ledger = Objects.requireNonNull(ledger, "원장은 null일 수 없습니다.");
+    }
+
+    // 이후 진행 상황을 이벤트로 발행한다. 버스를 닫는 것은 호출한 쪽의 몫이다
+    public void publishTo(EventBus eventBus) {
+        this.eventBus = Objects.requireNonNull(eventBus, "이벤트 버스는 null일 수 없습니다.");
+    }
+
+    // 스테이지를 마치고 최종 순위를 발행한다
+    public void endStage() {
+        if (state != DealerState.READY) {
+            throw new IllegalStateException("진행 중인 게임이 끝난 뒤에만 스테이지를 마칠 수 있습니다.");
+        }
+        FlightEvents.StageEnded ended = new FlightEvents.StageEnded();
+        if (ended.shouldCommit()) {
+            ended.tableId = tableId;
+            ended.players = players.size();
+            ended.matches = matchCount;
+            ended.draws = drawCount;
+            ended.winner = getTotalStageWinner().map(Player::getNickName).orElse(null);
+            ended.commit();
+        }
+        if (eventBus == null) {
+            return;
+        }
+        List<MatchEvent.StageEnded.Standing> standings = new ArrayList<>(players.size());
+        for (Player player : getPlayers()) {
+            standings.add(new MatchEvent.StageEnded.Standing(player.getNickName(), player.getRecord()));
+        }
+        eventBus.publish(new MatchEvent.StageEnded(List.copyOf(standings)));
+    }
+
+    public long getMatchCount() {
+        return matchCount;
+    }
+
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    boolean isReady() {
+        return state == DealerState.READY;
+    }
+
+    // 좌석 순서 그대로의 플레이어 목록 (복사하지 않음)
+    List<Player> seats() {
+        return players;
+    }
+
+    // 최신 매치 결과. 패 문자열은 결과를 읽을 때 만든다
+    public MatchResult getLatestMatch() {
+        if (matchHistory.isEmpty()) {
+            return MatchResult.EMPTY;
+        }
+        return resultOf(matchHistory.size() - 1);
+    }
+
+    public Optional<Player> getLastMatchWinner() {
+        if (winsHistory.size() == 0) {
+            return Optional.empty();
+        }
+        int seat = winsHistory.latestSeat();
+        // 그 뒤로 자리가 바뀌었을 수 있으므로 그 매치의 배치에서 찾는다
+        return seat == MatchHistory.NO_WINNER ? Optional.empty() : Optional.of(winsHistory.latestSeating().players().get(seat));
+    }
+
+    public Optional<Player> getTotalStageWinner() {
+        return leaderboard.winner();
+    }
+
+    // 스테이지 순위대로 정렬된 플레이어 목록
+    public List<Player> getPlayers() {
+        return leaderboard.top(players.size());
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+}
@@ -0,0 +1,28 @@
+package dealer;
+
+/**
+ * 딜러의 진행 단계. 한 매치는 READY → STARTED → SHUFFLED → DEALT → OPENED → READY 순으로 돈다.
+ * <p>
+ * ~ING 단계는 어떤 호출이 그 단계의 일을 맡아 처리하는 중이라는 뜻이다. 호출은 CAS로 먼저 단계를 차지한 뒤
+ * 일을 하고 다음 단계로 넘기므로, 같은 단계를 두 스레드가 동시에 처리하거나 처리 중에 다음 단계로 넘어가는 일이 없다.
+ * {@link #STAGING}은 {@link ParallelStage}가 READY에서 차지해 스테이지를 모두 마칠 때까지 쥐고 있는 단계다.
+ */
+public enum DealerState {
+    READY,
+    ENROLLING,
+    STARTED,
+    SHUFFLING,
+    SHUFFLED,
+    DEALING,
+    DEALT,
+    OPENING,
+    OPENED,
+    RETRIEVING,
+    STAGING;
+
+    // 다른 호출이 처리 중인 단계인지
+    public boolean isBusy() {
+        return this == ENROLLING || this == SHUFFLING || this == DEALING || this == OPENING || this == RETRIEVING
+                || this == STAGING;
+    }
+}
@@ -0,0 +1,74 @@
+package dealer;
+
+import common.Card;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * 52장 카드 인덱스의 순열과 드로우 커서로 이루어진 덱.
+ * <p>
+ * 뽑은 카드도 순열 안에 그대로 남아 있으므로 회수는 커서를 되돌리는 것으로 끝난다.
+ * 셔플은 실제로 나눠줄 앞부분만 부분 Fisher–Yates로 섞으며, 이전 순열이 무엇이든 앞부분은 균등 분포가 된다.
+ * 난수는 덱마다 주입된 {@link RandomGenerator} 하나만 쓴다.
+ */
+final class Deck {
+
+    private final int[] order = new int[Card.DECK_SIZE];
+    private final RandomGenerator random;
+    private int cursor;
+
+    private Deck(RandomGenerator random) {
+        this.random = random;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+    }
+
+    static Deck newDeck() {
+        return newDeck(RandomGenerator.of(SeedPolicy.DEFAULT_ALGORITHM));
+    }
+
+    static Deck newDeck(RandomGenerator random) {
+        return new Deck(Objects.requireNonNull(random, "난수 생성기는 null일 수 없습니다."));
+    }
+
+    public Card drawCard() {
+        return Card.of(draw());
+    }
+
+    // 맨 위 카드의 인덱스. 마스크로 카드를 드는 쪽은 Card를 거치지 않는다
+    int draw() {
+        if (cursor == order.length) {
+            throw new IllegalStateException("덱에 남은 카드가 없습니다.");
+        }
+        return order[cursor++];
+    }
+
+    void shuffle() {
+        shuffle(order.length);
+    }
+
+    // 앞에서부터 count장만 무작위로 확정한다
+    void shuffle(int count) {
+        if (count < 0 || count > order.length) {
+            throw new IllegalArgumentException("섞을 카드 수는 0부터 " + order.length + " 사이여야 합니다: " + count);
+        }
+        int last = Math.min(count, order.length - 1);
+        for (int i = 0; i < last; i++) {
+            int j = i + random.nextInt(order.length - i);
+            int card = order[i];
+            order[i] = order[j];
+            order[j] = card;
+        }
+        cursor = 0;
+    }
+
+    void retrieve() {
+        cursor = 0;
+    }
+
+    int remaining() {
+        return order.length - cursor;
+    }
+}
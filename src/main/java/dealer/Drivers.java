@@ -0,0 +1,37 @@
+package dealer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 테이블 구동 작업을 돌릴 실행기.
+ * <p>
+ * 빌드 대상이 17(build.gradle의 release)이라 가상 스레드 API를 직접 부를 수 없다. 실행 중인 JVM에 있을 때(JDK 21 이상)만
+ * 리플렉션으로 쓰고, 없으면 코어 수만큼의 작업 훔치기 풀을 쓴다. 어느 쪽인지는 {@link #isVirtual(ExecutorService)}와
+ * {@link TableManager#usesVirtualThreads()}로 드러난다. 구동 작업은 어느 쪽에서든 한 조각씩 돌고 다음 조각을 다시 넘긴다.
+ */
+final class Drivers {
+
+    static final String VIRTUAL_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    private Drivers() {
+    }
+
+    static ExecutorService newExecutor() {
+        return newExecutor(VIRTUAL_FACTORY);
+    }
+
+    // factory 이름의 Executors 정적 메서드로 실행기를 만들고, 없거나 쓸 수 없으면 작업 훔치기 풀로 대신한다
+    static ExecutorService newExecutor(String factory) {
+        try {
+            return (ExecutorService) Executors.class.getMethod(factory).invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newWorkStealingPool();
+        }
+    }
+
+    static boolean isVirtual(ExecutorService executor) {
+        return !(executor instanceof ForkJoinPool);
+    }
+}
@@ -0,0 +1,131 @@
+package dealer;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 딜러가 남기는 JFR 이벤트. 프로덕션 녹화에서 GC 멈춤·세이프포인트를 특정 테이블의 특정 매치와 맞춰 보는 데 쓴다.
+ * <p>
+ * 모두 기본으로 꺼져 있고({@link Enabled}{@code (false)}) 스택 트레이스도 남기지 않는다. 녹화가 없거나 켜지 않은
+ * 이벤트는 {@code shouldCommit()}이 거짓이라 필드를 채우지 않으며, JIT가 이벤트 객체 할당까지 지우므로 비용이 없다.
+ * 녹화 설정에서 이름으로 켠다.
+ * <pre>
+ * recording.enable("pokerhole.HandEvaluation");
+ * java -XX:StartFlightRecording:+pokerhole.MatchSettled#enabled=true ...
+ * </pre>
+ * 구간 이벤트의 길이는 JFR이 begin/commit 사이로 잰다. {@code tableId}는 {@link Dealer#getTableId()}다.
+ */
+final class FlightEvents {
+
+    static final String CATEGORY = "PokerHole";
+
+    private FlightEvents() {
+    }
+
+    @Name("pokerhole.MatchStarted")
+    @Label("Match Started")
+    @Description("newGame()으로 매치가 시작됨")
+    @Category({CATEGORY, "Match"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class MatchStarted extends Event {
+        @Label("Table Id")
+        long tableId;
+        @Label("Match Id")
+        long matchId;
+        @Label("Players")
+        int players;
+    }
+
+    @Name("pokerhole.Shuffle")
+    @Label("Shuffle")
+    @Description("이번 매치에 나갈 카드를 섞는 구간")
+    @Category({CATEGORY, "Match"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class Shuffle extends Event {
+        @Label("Table Id")
+        long tableId;
+        @Label("Match Id")
+        long matchId;
+        @Label("Players")
+        int players;
+        @Label("Shuffled Cards")
+        int cards;
+    }
+
+    @Name("pokerhole.Deal")
+    @Label("Deal")
+    @Description("플레이어에게 카드를 나눠주는 구간")
+    @Category({CATEGORY, "Match"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class Deal extends Event {
+        @Label("Table Id")
+        long tableId;
+        @Label("Match Id")
+        long matchId;
+        @Label("Players")
+        int players;
+    }
+
+    @Name("pokerhole.HandEvaluation")
+    @Label("Hand Evaluation")
+    @Description("한 매치의 모든 핸드를 평가하는 구간")
+    @Category({CATEGORY, "Match"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class HandEvaluation extends Event {
+        @Label("Table Id")
+        long tableId;
+        @Label("Match Id")
+        long matchId;
+        @Label("Hands")
+        int hands;
+    }
+
+    @Name("pokerhole.MatchSettled")
+    @Label("Match Settled")
+    @Description("핸드 오픈부터 판돈 정산·기록까지의 구간")
+    @Category({CATEGORY, "Match"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class MatchSettled extends Event {
+        @Label("Table Id")
+        long tableId;
+        @Label("Match Id")
+        long matchId;
+        @Label("Players")
+        int players;
+        @Label("Winner Seat")
+        @Description("무승부면 -1")
+        int winnerSeat;
+        @Label("Winning Tier")
+        @Description("가장 강한 패의 족보. 무승부여도 채워진다")
+        String winningTier;
+    }
+
+    @Name("pokerhole.StageEnded")
+    @Label("Stage Ended")
+    @Description("endStage()로 스테이지가 끝남")
+    @Category({CATEGORY, "Stage"})
+    @Enabled(false)
+    @StackTrace(false)
+    static final class StageEnded extends Event {
+        @Label("Table Id")
+        long tableId;
+        @Label("Players")
+        int players;
+        @Label("Matches")
+        long matches;
+        @Label("Draws")
+        long draws;
+        @Label("Winner")
+        String winner;
+    }
+}
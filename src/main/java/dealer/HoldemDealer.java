@@ -0,0 +1,227 @@
+package dealer;
+
+import common.Hand;
+import ledger.PointLedger;
+import metrics.Metrics;
+import metrics.Phase;
+import player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * 텍사스 홀덤 한 테이블을 진행하는 딜러.
+ * <p>
+ * 플레이어마다 홀 카드 2장을, 공용 카드는 플롭 3장·턴 1장·리버 1장을 {@link Deck}에서 나눠주며 스트리트마다 한 장을 먼저
+ * 버린다. 카드는 좌석별 홀 카드와 보드를 64비트 마스크로만 들고 있어 {@link Player}의 5장 핸드를 쓰지 않는다.
+ * 쇼다운은 좌석마다 홀 카드와 보드를 합친 7장 마스크를 {@link Hand#bestStrength(long)}로 한 번씩 조회하므로
+ * 21가지 조합을 만들지 않고, 매치 한 판에 할당이 없다.
+ * <p>
+ * 베팅 라운드 없이 가장 강한 패가 아닌 사람이 판돈을 내는 규칙과 정산 원장은 {@link Dealer}와 같다.
+ * 단계는 CAS가 아닌 평범한 필드로 다루므로 한 번에 한 스레드만 움직여야 하고, 다른 스레드로 넘길 때는
+ * {@link Table}처럼 실행기를 거쳐 넘긴다. 순서가 틀리면 {@link IllegalStateException}을 던진다.
+ */
+public final class HoldemDealer {
+
+    public static final int MIN_PLAYER = 2;
+    public static final int MAX_PLAYER = 10;
+    public static final int HOLE_CARDS = 2;
+    public static final int BOARD_CARDS = 5;
+    public static final int NO_WINNER = MatchHistory.NO_WINNER;
+
+    private static final int FLOP_CARDS = 3;
+    private static final int BURN_CARDS = 3;
+
+    private final Deck deck;
+    private final List<Player> players = new ArrayList<>(MAX_PLAYER);
+    private final List<Player> playersView = Collections.unmodifiableList(players);
+    private final long[] holeCards = new long[MAX_PLAYER];
+    private final int[] strengths = new int[MAX_PLAYER];
+    private long board;
+    private int winnerSeat = NO_WINNER;
+    private long matchCount;
+    private long drawCount;
+    private int betPoint = Dealer.BET_POINT;
+    private PointLedger ledger = PointLedger.newLedger();
+    private Street street = Street.READY;
+
+    private HoldemDealer(Deck deck) {
+        this.deck = deck;
+    }
+
+    public static HoldemDealer newHoldemDealer() {
+        return new HoldemDealer(Deck.newDeck());
+    }
+
+    // 테이블 전용 난수 스트림으로 셔플한다. 생성기는 이 딜러만 써야 한다
+    public static HoldemDealer newHoldemDealer(RandomGenerator random) {
+        return new HoldemDealer(Deck.newDeck(random));
+    }
+
+    public static HoldemDealer newHoldemDealer(SeedPolicy seedPolicy) {
+        return newHoldemDealer(seedPolicy.nextStream());
+    }
+
+    public Player enrollPlayer(Player player) {
+        Objects.requireNonNull(player, "플레이어는 null일 수 없습니다.");
+        expect(Street.READY, "게임 진행 중에는 플레이어를 등록할 수 없습니다.");
+        if (players.contains(player)) {
+            throw new IllegalArgumentException("이미 등록된 플레이어입니다: " + player.getNickName());
+        }
+        if (players.size() == MAX_PLAYER) {
+            throw new IllegalStateException("플레이어는 최대 " + MAX_PLAYER + "명까지 등록할 수 있습니다.");
+        }
+        players.add(player);
+        return player;
+    }
+
+    // 이번 매치에 나갈 장수만 섞고 홀 카드를 2장씩 돌린다
+    public void dealHoleCards() {
+        expect(Street.READY, "이전 게임이 끝나지 않았습니다. retrieveCards()로 게임을 정리하세요.");
+        if (players.size() < MIN_PLAYER) {
+            throw new IllegalStateException("게임을 하려면 플레이어가 최소 " + MIN_PLAYER + "명 필요합니다.");
+        }
+        long start = Metrics.start(Phase.HOLDEM_DEAL);
+        int seats = players.size();
+        deck.shuffle(seats * HOLE_CARDS + BURN_CARDS + BOARD_CARDS);
+        for (int round = 0; round < HOLE_CARDS; round++) {
+            for (int seat = 0; seat < seats; seat++) {
+                holeCards[seat] |= 1L << deck.draw();
+            }
+        }
+        street = Street.PREFLOP;
+        Metrics.stop(Phase.HOLDEM_DEAL, start);
+    }
+
+    public void dealFlop() {
+        expect(Street.PREFLOP, "홀 카드를 나눠준 뒤에만 플롭을 펼칠 수 있습니다.");
+        burnAndDeal(FLOP_CARDS);
+        street = Street.FLOP;
+    }
+
+    public void dealTurn() {
+        expect(Street.FLOP, "플롭 이후에만 턴을 펼칠 수 있습니다.");
+        burnAndDeal(1);
+        street = Street.TURN;
+    }
+
+    public void dealRiver() {
+        expect(Street.TURN, "턴 이후에만 리버를 펼칠 수 있습니다.");
+        burnAndDeal(1);
+        street = Street.RIVER;
+    }
+
+    private void burnAndDeal(int cards) {
+        deck.draw();
+        for (int i = 0; i < cards; i++) {
+            board |= 1L << deck.draw();
+        }
+    }
+
+    /**
+     * 좌석마다 홀 카드 2장과 보드 5장 중 가장 강한 5장을 찾아 판돈을 정산한다.
+     * 단독 승자의 좌석을, 공동 승리면 {@value #NO_WINNER}를 돌려준다.
+     */
+    public int showdown() {
+        expect(Street.RIVER, "리버 이후에만 쇼다운할 수 있습니다.");
+        long start = Metrics.start(Phase.HOLDEM_SHOWDOWN);
+        int seats = players.size();
+        for (int seat = 0; seat < seats; seat++) {
+            strengths[seat] = Hand.bestStrength(holeCards[seat] | board);
+        }
+        winnerSeat = ledger.settlePot(matchCount, players, strengths, betPoint);
+        matchCount++;
+        if (winnerSeat == NO_WINNER) {
+            drawCount++;
+        }
+        street = Street.SHOWDOWN;
+        Metrics.stop(Phase.HOLDEM_SHOWDOWN, start);
+        return winnerSeat;
+    }
+
+    public void retrieveCards() {
+        expect(Street.SHOWDOWN, "쇼다운 이후에만 카드를 회수할 수 있습니다.");
+        for (int seat = 0; seat < players.size(); seat++) {
+            holeCards[seat] = 0;
+        }
+        board = 0;
+        deck.retrieve();
+        street = Street.READY;
+    }
+
+    // 홀 카드부터 회수까지 한 판을 진행하고 쇼다운 결과를 돌려준다
+    public int playMatch() {
+        dealHoleCards();
+        dealFlop();
+        dealTurn();
+        dealRiver();
+        int winner = showdown();
+        retrieveCards();
+        return winner;
+    }
+
+    private void expect(Street expected, String message) {
+        if (street != expected) {
+            throw new IllegalStateException(message + " 현재 단계: " + street);
+        }
+    }
+
+    public Street getStreet() {
+        return street;
+    }
+
+    // 지금까지 펼친 공용 카드 마스크. 비트 위치는 Card#getIndex()
+    public long getBoard() {
+        return board;
+    }
+
+    public long getHoleCards(int seat) {
+        return holeCards[Objects.checkIndex(seat, players.size())];
+    }
+
+    // 쇼다운한 매치에서 그 좌석의 7장 중 최고 5장 강도. 카드를 회수한 뒤에도 다음 쇼다운까지 남아 있다
+    public int getStrength(int seat) {
+        Objects.checkIndex(seat, players.size());
+        if (matchCount == 0) {
+            throw new IllegalStateException("아직 쇼다운한 매치가 없습니다.");
+        }
+        return strengths[seat];
+    }
+
+    // 마지막 쇼다운의 단독 승자 좌석. 공동 승리면 NO_WINNER
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    public void setBetPoint(int betPoint) {
+        if (betPoint <= 0) {
+            throw new IllegalArgumentException("판돈은 1 이상이어야 합니다: " + betPoint);
+        }
+        this.betPoint = betPoint;
+    }
+
+    public int getBetPoint() {
+        return betPoint;
+    }
+
+    // 이후 판돈 정산을 주어진 원장으로 한다. 여러 테이블이 한 원장(과 저널)을 함께 쓸 수 있다
+    public void settleWith(PointLedger ledger) {
+        this.ledger = Objects.requireNonNull(ledger, "원장은 null일 수 없습니다.");
+    }
+
+    public long getMatchCount() {
+        return matchCount;
+    }
+
+    public long getDrawCount() {
+        return drawCount;
+    }
+
+    // 좌석 순서 그대로의 읽기 전용 목록
+    public List<Player> getPlayers() {
+        return playersView;
+    }
+}
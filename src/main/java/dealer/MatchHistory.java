@@ -0,0 +1,199 @@
+package dealer;
+
+/**
+ * 매치 기록을 열(column) 단위 원시 배열로 보관한다.
+ * <p>
+ * 매치마다 매치 번호, 좌석 수, 좌석별 카드 5장(카드 인덱스 1바이트씩)과 패 강도, 승자 좌석, 그 매치의 좌석 배치
+ * ({@link Seating}, 배치가 바뀔 때까지 여러 매치가 같은 참조를 공유)만 남기고 패 문자열은 누군가 요청할 때 만든다. 기본은 모두 보관하고,
+ * {@link #limit(int)}로 상한을 두면 최근 N개만 남기는 링 버퍼가 된다. 추가와 조회는 O(1)이다.
+ */
+final class MatchHistory {
+
+    static final int NO_WINNER = -1;
+
+    private static final int UNBOUNDED = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int SEATS = Dealer.MAX_PLAYER;
+    private static final int CARDS = Dealer.HAND_SIZE;
+
+    private long[] matchIds = new long[INITIAL_CAPACITY];
+    private byte[] seatCounts = new byte[INITIAL_CAPACITY];
+    private byte[] cards = new byte[INITIAL_CAPACITY * SEATS * CARDS];
+    private short[] strengths = new short[INITIAL_CAPACITY * SEATS];
+    private byte[] winnerSeats = new byte[INITIAL_CAPACITY];
+    private Seating[] seatings = new Seating[INITIAL_CAPACITY];
+
+    private int start; // 가장 오래된 기록 위치
+    private int size;
+    private int limit = UNBOUNDED;
+    private int writing = -1; // 기록 중인 슬롯
+
+    private final Winners winners = new Winners();
+
+    // 새 매치 슬롯을 연다. 이어서 seat()과 finish()를 호출한다
+    void begin(long matchId, Seating seating) {
+        int capacity = matchIds.length;
+        if (size == capacity) {
+            if (limit == UNBOUNDED) {
+                resize(capacity * 2);
+                capacity = matchIds.length;
+            } else {
+                start = (start + 1) % capacity;
+                size--;
+            }
+        }
+        writing = (start + size) % capacity;
+        matchIds[writing] = matchId;
+        seatCounts[writing] = (byte) seating.size();
+        seatings[writing] = seating;
+    }
+
+    // 좌석의 핸드 마스크(카드 5장)와 강도를 기록한다
+    void seat(int seat, long handMask, int strength) {
+        int offset = (writing * SEATS + seat) * CARDS;
+        for (long m = handMask; m != 0; m &= m - 1) {
+            cards[offset++] = (byte) Long.numberOfTrailingZeros(m);
+        }
+        strengths[writing * SEATS + seat] = (short) strength;
+    }
+
+    void finish(int winnerSeat) {
+        winnerSeats[writing] = (byte) winnerSeat;
+        writing = -1;
+        size++;
+    }
+
+    // 최근 capacity개만 남기고 이후로도 그만큼만 보관한다
+    void limit(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("보관할 매치 수는 1 이상이어야 합니다: " + capacity);
+        }
+        int keep = Math.min(size, capacity);
+        start = (start + size - keep) % matchIds.length;
+        size = keep;
+        resize(capacity);
+        limit = capacity;
+    }
+
+    // 다른 기록의 index번째 매치를 새 매치 번호와 좌석 배치로 이어 붙인다
+    void copy(MatchHistory source, int index, long matchId, Seating seating) {
+        begin(matchId, seating);
+        for (int seat = 0; seat < source.seatCount(index); seat++) {
+            seat(seat, source.handMask(index, seat), source.strength(index, seat));
+        }
+        finish(source.winnerSeat(index));
+    }
+
+    // 최대 몇 개까지 보관하는지. 상한이 없으면 Integer.MAX_VALUE
+    int retention() {
+        return limit == UNBOUNDED ? Integer.MAX_VALUE : limit;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    Winners winners() {
+        return winners;
+    }
+
+    // ---- 조회: index 0이 보관 중인 가장 오래된 매치, size() - 1이 최신 매치 ----
+
+    long matchId(int index) {
+        return matchIds[slot(index)];
+    }
+
+    int seatCount(int index) {
+        return seatCounts[slot(index)];
+    }
+
+    long handMask(int index, int seat) {
+        int offset = (slot(index) * SEATS + seat) * CARDS;
+        long mask = 0;
+        for (int k = 0; k < CARDS; k++) {
+            mask |= 1L << cards[offset + k];
+        }
+        return mask;
+    }
+
+    int strength(int index, int seat) {
+        return strengths[slot(index) * SEATS + seat];
+    }
+
+    int winnerSeat(int index) {
+        return winnerSeats[slot(index)];
+    }
+
+    // 그 매치를 치를 때의 좌석 배치. 좌석 번호는 이 배치 기준이다
+    Seating seating(int index) {
+        return seatings[slot(index)];
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("기록 인덱스 범위를 벗어났습니다: " + index);
+        }
+        return (start + index) % matchIds.length;
+    }
+
+    private void resize(int capacity) {
+        long[] ids = new long[capacity];
+        byte[] counts = new byte[capacity];
+        byte[] packed = new byte[capacity * SEATS * CARDS];
+        short[] values = new short[capacity * SEATS];
+        byte[] winnerColumn = new byte[capacity];
+        Seating[] seatingColumn = new Seating[capacity];
+        for (int i = 0; i < size; i++) {
+            int from = (start + i) % matchIds.length;
+            ids[i] = matchIds[from];
+            counts[i] = seatCounts[from];
+            System.arraycopy(cards, from * SEATS * CARDS, packed, i * SEATS * CARDS, SEATS * CARDS);
+            System.arraycopy(strengths, from * SEATS, values, i * SEATS, SEATS);
+            winnerColumn[i] = winnerSeats[from];
+            seatingColumn[i] = seatings[from];
+        }
+        matchIds = ids;
+        seatCounts = counts;
+        cards = packed;
+        strengths = values;
+        winnerSeats = winnerColumn;
+        seatings = seatingColumn;
+        start = 0;
+    }
+
+    /**
+     * 승자 좌석 열만 보여주는 뷰. 매치 기록과 같은 슬롯을 공유하므로 크기도 항상 같다.
+     */
+    final class Winners {
+
+        // 다른 기록의 index번째 매치를 새 매치 번호와 좌석 배치로 이어 붙인다
+    void copy(MatchHistory source, int index, long matchId, Seating seating) {
+        begin(matchId, seating);
+        for (int seat = 0; seat < source.seatCount(index); seat++) {
+            seat(seat, source.handMask(index, seat), source.strength(index, seat));
+        }
+        finish(source.winnerSeat(index));
+    }
+
+    // 최대 몇 개까지 보관하는지. 상한이 없으면 Integer.MAX_VALUE
+    int retention() {
+        return limit == UNBOUNDED ? Integer.MAX_VALUE : limit;
+    }
+
+    public int size() {
+            return size;
+        }
+
+        int latestSeat() {
+            return winnerSeat(size - 1);
+        }
+
+        Seating latestSeating() {
+            return seating(size - 1);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dealer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * 매치 로그 파일 형식.
+ * <pre>
+ * 헤더 (16바이트): magic "PHML"(int) | version(short) | recordSize(short) | checkpoint(long)
+ * 레코드 (44바이트, 매치당 1개):
+ *   0  matchId      long
+ *   8  seatCount    byte
+ *   9  winnerSeat   byte  (-1 = 무승부)
+ *   10 cards        byte[좌석 4 × 5장]  카드 인덱스
+ *   30 strengths    short[좌석 4]
+ *   38 (padding)    2바이트
+ *   40 crc32c       int   (0..39 바이트)
+ * </pre>
+ * 레코드는 뒤에 붙이기만 하지만, 강제 기록 전에 멈추면 꼬리 쪽 페이지가 순서 없이 반영돼 뒤의 레코드는 온전한데
+ * 앞의 레코드가 깨져 있을 수 있다. 그래서 쓰는 쪽은 강제 기록을 마칠 때마다 디스크에 내린 레코드 수를 checkpoint에
+ * 적고, 여는 쪽은 checkpoint 앞의 레코드는 믿고 그 뒤만 앞에서부터 검사해 처음으로 체크섬이 틀린 레코드 앞까지를
+ * 유효로 본다. checkpoint는 데이터를 내린 뒤에 적으므로 디스크에 남은 값이 실제 내린 레코드 수를 넘지 않는다.
+ */
+final class MatchLogFormat {
+
+    static final int MAGIC = 0x50484D4C; // "PHML"
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 16;
+    static final int CHECKPOINT = 8;
+    static final int RECORD_SIZE = 44;
+    static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+    static final int MATCH_ID = 0;
+    static final int SEAT_COUNT = 8;
+    static final int WINNER_SEAT = 9;
+    static final int CARDS = 10;
+    static final int STRENGTHS = 30;
+    static final int CHECKSUM = 40;
+
+    static final int SEATS = Dealer.MAX_PLAYER;
+    static final int HAND_SIZE = Dealer.HAND_SIZE;
+
+    // 유효 레코드를 검사할 때 한 번에 읽는 레코드 수
+    private static final int SCAN_RECORDS = 1024;
+
+    private MatchLogFormat() {
+    }
+
+    static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putLong(0).flip();
+        return header;
+    }
+
+    static void checkHeader(ByteBuffer header) throws IOException {
+        if (header.getInt(0) != MAGIC || header.getShort(4) != VERSION || header.getShort(6) != RECORD_SIZE) {
+            throw new IOException("매치 로그 파일 형식이 아닙니다.");
+        }
+    }
+
+    // buffer의 offset 위치 레코드 체크섬을 계산한다. buffer의 position/limit은 바꾸지 않는다
+    static int checksum(ByteBuffer buffer, int offset, CRC32C crc) {
+        crc.reset();
+        if (buffer.hasArray()) {
+            crc.update(buffer.array(), buffer.arrayOffset() + offset, CHECKSUM);
+        } else {
+            crc.update(buffer.duplicate().position(offset).limit(offset + CHECKSUM));
+        }
+        return (int) crc.getValue();
+    }
+
+    static boolean isValid(ByteBuffer buffer, int offset, CRC32C crc) {
+        return buffer.getInt(offset + CHECKSUM) == checksum(buffer, offset, crc);
+    }
+
+    // 헤더보다 짧은 파일은 헤더를 쓰다 멈춘 새 로그일 때만 받아들인다. 다른 파일을 빈 로그로 덮어쓰지 않기 위해서다
+    static void checkPartialHeader(FileChannel channel) throws IOException {
+        ByteBuffer partial = ByteBuffer.allocate((int) channel.size());
+        while (partial.hasRemaining() && channel.read(partial, partial.position()) >= 0) {
+            // 남은 바이트를 다 읽을 때까지 반복
+        }
+        if (!partial.flip().equals(header().limit(partial.limit()))) {
+            throw new IOException("매치 로그 파일 형식이 아닙니다.");
+        }
+    }
+
+    // 디스크에 내렸다고 기록된 레코드 수
+    static long checkpoint(ByteBuffer header) {
+        return header.getLong(CHECKPOINT);
+    }
+
+    /**
+     * 헤더 뒤의 온전한 레코드 수를 구한다. trusted개까지는 검사하지 않고, 그 뒤를 앞에서부터 검사해
+     * 처음으로 잘렸거나 체크섬이 틀린 레코드 앞까지만 센다. 그 뒤의 레코드는 체크섬이 맞더라도 순서를 믿을 수 없으므로 세지 않는다.
+     */
+    static long validRecords(FileChannel channel, long trusted) throws IOException {
+        long total = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        long records = Math.max(0, Math.min(trusted, total));
+        if (records == total) {
+            return records;
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(SCAN_RECORDS * RECORD_SIZE).order(ORDER);
+        CRC32C crc = new CRC32C();
+        while (records < total) {
+            int count = (int) Math.min(SCAN_RECORDS, total - records);
+            long position = HEADER_SIZE + records * RECORD_SIZE;
+            chunk.clear().limit(count * RECORD_SIZE);
+            while (chunk.hasRemaining() && channel.read(chunk, position + chunk.position()) >= 0) {
+                // 묶음을 다 읽을 때까지 반복
+            }
+            for (int i = 0; i < count; i++) {
+                if (!isValid(chunk, i * RECORD_SIZE, crc)) {
+                    return records + i;
+                }
+            }
+            records += count;
+        }
+        return records;
+    }
+}
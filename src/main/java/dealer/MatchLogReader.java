@@ -0,0 +1,149 @@
+package dealer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32C;
+
+import static dealer.MatchLogFormat.*;
+
+/**
+ * {@link MatchLogWriter}가 남긴 로그를 메모리 매핑으로 읽는다.
+ * <p>
+ * 레코드 크기가 고정이므로 N번째 매치는 오프셋 계산 한 번으로 바로 찾는다. 원시값 조회
+ * ({@link #matchId(long)}, {@link #strength(long, int)} 등)는 필요한 필드만 읽고,
+ * {@link #get(long)}만 체크섬을 확인한 뒤 {@link MatchRecord}를 만든다. 열 때는 헤더의 checkpoint 뒤 꼬리만
+ * 검사해 잘렸거나 깨진 레코드부터는 세지 않으므로, 파일 크기와 상관없이 마지막 강제 기록 뒤에 쓴 만큼만 읽는다.
+ */
+public final class MatchLogReader implements Closeable, Iterable<MatchRecord> {
+
+    // 매핑 하나는 2GB를 넘을 수 없으므로 레코드 경계에 맞춰 나눠 매핑한다
+    private static final long RECORDS_PER_SEGMENT = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long size;
+    private final CRC32C crc = new CRC32C();
+
+    private MatchLogReader(FileChannel channel, long size) throws IOException {
+        this.channel = channel;
+        this.size = size;
+        int count = (int) ((size + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+        this.segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long first = i * RECORDS_PER_SEGMENT;
+            long records = Math.min(RECORDS_PER_SEGMENT, size - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE, records * RECORD_SIZE);
+            segments[i].order(ORDER);
+        }
+    }
+
+    public static MatchLogReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+            if (channel.size() < HEADER_SIZE) {
+                checkPartialHeader(channel);
+                return new MatchLogReader(channel, 0);
+            }
+            channel.read(header, 0);
+            checkHeader(header);
+            // 디스크에 내린 레코드는 믿고 그 뒤의 꼬리만 검사한다
+            return new MatchLogReader(channel, validRecords(channel, checkpoint(header)));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long matchId(long n) {
+        return segment(n).getLong(offset(n) + MATCH_ID);
+    }
+
+    public int seatCount(long n) {
+        return segment(n).get(offset(n) + SEAT_COUNT);
+    }
+
+    public int winnerSeat(long n) {
+        return segment(n).get(offset(n) + WINNER_SEAT);
+    }
+
+    public int strength(long n, int seat) {
+        return segment(n).getShort(offset(n) + STRENGTHS + seat * 2);
+    }
+
+    public long handMask(long n, int seat) {
+        ByteBuffer segment = segment(n);
+        int cards = offset(n) + CARDS + seat * HAND_SIZE;
+        long mask = 0;
+        for (int k = 0; k < HAND_SIZE; k++) {
+            mask |= 1L << segment.get(cards + k);
+        }
+        return mask;
+    }
+
+    public boolean isValid(long n) {
+        return MatchLogFormat.isValid(segment(n), offset(n), crc);
+    }
+
+    // 체크섬을 확인하고 n번째 레코드를 꺼낸다
+    public MatchRecord get(long n) {
+        if (!isValid(n)) {
+            throw new IllegalStateException(n + "번째 매치 레코드의 체크섬이 맞지 않습니다.");
+        }
+        int seats = seatCount(n);
+        long[] hands = new long[seats];
+        int[] strengths = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            hands[seat] = handMask(n, seat);
+            strengths[seat] = strength(n, seat);
+        }
+        return new MatchRecord(matchId(n), winnerSeat(n), hands, strengths);
+    }
+
+    @Override
+    public Iterator<MatchRecord> iterator() {
+        return new Iterator<>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public MatchRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    private ByteBuffer segment(long n) {
+        if (n < 0 || n >= size) {
+            throw new IndexOutOfBoundsException("매치 레코드 범위를 벗어났습니다: " + n);
+        }
+        return segments[(int) (n / RECORDS_PER_SEGMENT)];
+    }
+
+    private static int offset(long n) {
+        return (int) (n % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,180 @@
+package dealer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static dealer.MatchLogFormat.*;
+
+/**
+ * 매치 결과를 덧붙이기 전용 바이너리 로그로 남긴다.
+ * <p>
+ * 레코드는 메모리 버퍼에 모았다가 batchRecords개마다 한 번에 쓰고, forceEveryBatches번 쓸 때마다
+ * {@link FileChannel#force(boolean)}로 디스크에 내리고 내린 레코드 수를 헤더의 checkpoint에 적는다. 열 때는
+ * checkpoint 뒤의 꼬리만 검사해 잘렸거나 깨진 레코드부터 잘라내고 이어서 쓴다. 쓰기에 실패하면 반쯤 쓴 묶음을
+ * 잘라내고 레코드는 버퍼에 남겨 두었다가 다음 쓰기에서 같은 자리에 다시 쓴다. 한 딜러(스레드)만 쓴다고 가정한다.
+ */
+public final class MatchLogWriter implements Closeable {
+
+    public static final int DEFAULT_BATCH_RECORDS = 1024;
+    public static final int DEFAULT_FORCE_EVERY_BATCHES = 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+    private final int forceEveryBatches;
+    private final CRC32C crc = new CRC32C();
+    private final ByteBuffer checkpointBuffer = ByteBuffer.allocate(Long.BYTES).order(ORDER);
+    private int unforcedBatches;
+    private long records;
+    // 파일에 온전히 쓴 마지막 레코드의 끝. 다음 묶음은 여기부터 쓴다
+    private long end;
+
+    private MatchLogWriter(FileChannel channel, long records, int batchRecords, int forceEveryBatches) {
+        this.channel = channel;
+        this.records = records;
+        this.end = HEADER_SIZE + records * RECORD_SIZE;
+        this.batch = ByteBuffer.allocate(batchRecords * RECORD_SIZE).order(ORDER);
+        this.forceEveryBatches = forceEveryBatches;
+    }
+
+    public static MatchLogWriter open(Path path) throws IOException {
+        return open(path, DEFAULT_BATCH_RECORDS, DEFAULT_FORCE_EVERY_BATCHES);
+    }
+
+    public static MatchLogWriter open(Path path, int batchRecords, int forceEveryBatches) throws IOException {
+        if (batchRecords <= 0 || forceEveryBatches <= 0) {
+            throw new IllegalArgumentException("배치 크기와 force 주기는 1 이상이어야 합니다.");
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long records = recover(channel);
+            return new MatchLogWriter(channel, records, batchRecords, forceEveryBatches);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // 헤더를 확인(없으면 기록)하고 잘린 꼬리를 잘라낸 뒤 온전한 레코드 수를 돌려준다
+    private static long recover(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            checkPartialHeader(channel);
+            channel.truncate(0);
+            channel.write(header(), 0);
+            channel.force(true);
+            return 0;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+        channel.read(header, 0);
+        checkHeader(header);
+        long records = validRecords(channel, checkpoint(header));
+        long end = HEADER_SIZE + records * RECORD_SIZE;
+        if (channel.size() > end) {
+            channel.truncate(end);
+            channel.force(true);
+        }
+        return records;
+    }
+
+    // 방금 기록된 매치(history의 index번째)를 로그에 덧붙인다
+    void append(MatchHistory history, int index) {
+        if (!batch.hasRemaining()) {
+            // 지난 쓰기가 실패해 가득 찬 채로 남은 묶음을 먼저 다시 쓴다
+            writeBatch();
+        }
+        int offset = batch.position();
+        batch.putLong(offset + MATCH_ID, history.matchId(index));
+        int seats = history.seatCount(index);
+        batch.put(offset + SEAT_COUNT, (byte) seats);
+        batch.put(offset + WINNER_SEAT, (byte) history.winnerSeat(index));
+        for (int seat = 0; seat < SEATS; seat++) {
+            int cardOffset = offset + CARDS + seat * HAND_SIZE;
+            long mask = seat < seats ? history.handMask(index, seat) : 0;
+            for (int k = 0; k < HAND_SIZE; k++) {
+                batch.put(cardOffset + k, (byte) Long.numberOfTrailingZeros(mask));
+                mask &= mask - 1;
+            }
+            batch.putShort(offset + STRENGTHS + seat * 2, (short) (seat < seats ? history.strength(index, seat) : 0));
+        }
+        batch.putShort(offset + CHECKSUM - 2, (short) 0);
+        batch.putInt(offset + CHECKSUM, checksum(batch, offset, crc));
+        batch.position(offset + RECORD_SIZE);
+        records++;
+        if (!batch.hasRemaining()) {
+            writeBatch();
+        }
+    }
+
+    public long records() {
+        return records;
+    }
+
+    // 모아 둔 레코드를 쓰고 디스크까지 내린다
+    public void flush() {
+        writeBatch();
+        force();
+    }
+
+    private void writeBatch() {
+        if (batch.position() == 0) {
+            return;
+        }
+        batch.flip();
+        boolean written = false;
+        try {
+            while (batch.hasRemaining()) {
+                channel.write(batch, end + batch.position());
+            }
+            written = true;
+        } catch (IOException e) {
+            // 반쯤 쓴 묶음이 온전한 레코드처럼 남지 않도록 마지막 온전한 레코드 뒤를 잘라낸다
+            try {
+                channel.truncate(end);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            throw new UncheckedIOException("매치 로그를 쓰지 못했습니다.", e);
+        } finally {
+            if (written) {
+                end += batch.limit();
+                batch.clear();
+            } else {
+                // 쓰기 전 상태로 되돌려 다음 쓰기에서 묶음 전체를 같은 자리에 다시 쓴다
+                batch.position(batch.limit()).limit(batch.capacity());
+            }
+        }
+        if (++unforcedBatches >= forceEveryBatches) {
+            force();
+        }
+    }
+
+    // 쓴 레코드를 디스크에 내린 뒤 그 수를 헤더에 적는다. 헤더는 다음 강제 기록 때 함께 내려간다
+    private void force() {
+        try {
+            channel.force(false);
+            checkpointBuffer.clear();
+            checkpointBuffer.putLong(0, (end - HEADER_SIZE) / RECORD_SIZE);
+            while (checkpointBuffer.hasRemaining()) {
+                channel.write(checkpointBuffer, CHECKPOINT + checkpointBuffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("매치 로그를 디스크에 내리지 못했습니다.", e);
+        }
+        unforcedBatches = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
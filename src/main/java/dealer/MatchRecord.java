@@ -0,0 +1,21 @@
+package dealer;
+
+import common.Hand;
+
+/**
+ * 매치 로그에서 꺼낸 한 매치. 좌석 순서대로 핸드 마스크와 강도를 담고, 승자가 없으면 winnerSeat는 -1이다.
+ */
+public record MatchRecord(long matchId, int winnerSeat, long[] hands, int[] strengths) {
+
+    public int seatCount() {
+        return hands.length;
+    }
+
+    public boolean isDraw() {
+        return winnerSeat < 0;
+    }
+
+    public String describe(int seat) {
+        return Hand.describe(hands[seat], strengths[seat]);
+    }
+}
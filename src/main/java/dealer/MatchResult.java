@@ -0,0 +1,149 @@
+package dealer;
+
+import common.Hand;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 한 매치의 결과. 좌석별 닉네임과 핸드 마스크, 패 강도만 들고 있고 패 문자열은 누군가 읽을 때 만든다.
+ * <p>
+ * {@code Map<String, String>}(닉네임 → 패 문자열, 좌석 순)으로도 쓸 수 있으며, 값은 {@link Map.Entry#getValue()}를
+ * 부를 때마다 렌더링된다. 출력하는 쪽은 {@link #renderTo(int, StringBuilder)}로 문자열 없이 바로 버퍼에 쓸 수 있다.
+ */
+public final class MatchResult extends AbstractMap<String, String> {
+
+    static final MatchResult EMPTY = new MatchResult(-1, List.of(), new long[0], new int[0], MatchHistory.NO_WINNER);
+
+    private final long matchId;
+    private final List<String> nickNames;
+    private final long[] hands;
+    private final int[] strengths;
+    private final int winnerSeat;
+
+    MatchResult(long matchId, List<String> nickNames, long[] hands, int[] strengths, int winnerSeat) {
+        this.matchId = matchId;
+        this.nickNames = nickNames;
+        this.hands = hands;
+        this.strengths = strengths;
+        this.winnerSeat = winnerSeat;
+    }
+
+    public long matchId() {
+        return matchId;
+    }
+
+    public int seatCount() {
+        return hands.length;
+    }
+
+    public String nickName(int seat) {
+        return nickNames.get(seat);
+    }
+
+    public long hand(int seat) {
+        return hands[seat];
+    }
+
+    public int strength(int seat) {
+        return strengths[seat];
+    }
+
+    // 무승부면 비어 있다
+    public Optional<String> winner() {
+        return winnerSeat == MatchHistory.NO_WINNER ? Optional.empty() : Optional.of(nickNames.get(winnerSeat));
+    }
+
+    public int winnerSeat() {
+        return winnerSeat;
+    }
+
+    public String render(int seat) {
+        return Hand.describe(hands[seat], strengths[seat]);
+    }
+
+    public StringBuilder renderTo(int seat, StringBuilder sb) {
+        return Hand.describe(sb, hands[seat], strengths[seat]);
+    }
+
+    @Override
+    public int size() {
+        return hands.length;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int seat;
+
+                    @Override
+                    public boolean hasNext() {
+                        return seat < hands.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return new Seat(seat++);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return hands.length;
+            }
+        };
+    }
+
+    // 값을 읽을 때 렌더링하는 좌석 하나
+    private final class Seat implements Map.Entry<String, String> {
+
+        private final int seat;
+
+        private Seat(int seat) {
+            this.seat = seat;
+        }
+
+        @Override
+        public String getKey() {
+            return nickNames.get(seat);
+        }
+
+        @Override
+        public String getValue() {
+            return render(seat);
+        }
+
+        @Override
+        public String setValue(String value) {
+            throw new UnsupportedOperationException("매치 결과는 바꿀 수 없습니다.");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && getKey().equals(e.getKey()) && getValue().equals(e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
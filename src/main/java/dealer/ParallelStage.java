@@ -0,0 +1,108 @@
+package dealer;
+
+import player.Player;
+import player.PlayerRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * 한 스테이지의 매치를 여러 워커 스레드에 나눠 진행한다.
+ * <p>
+ * 워커마다 자기 {@link Dealer}와 덱 난수 스트림, 대리 플레이어({@link Player#standIn()})를 가지므로 게임 중에는
+ * 공유 상태가 없다. 모든 워커가 끝나면 좌석별 변화량을 원래 플레이어에, 매치·무승부 수와 보관 기록을 원래 딜러에
+ * 워커 순서대로 합치므로 {@link Dealer#getTotalStageWinner()}, {@link Dealer#getMatchCount()},
+ * {@link Dealer#getLatestMatch()}가 그대로 병렬 결과를 보여준다. 진행하는 동안 딜러는 {@link DealerState#STAGING}에
+ * 있어 다른 호출이 끼어들 수 없다. 이벤트는 발행하지 않고, 매치 로그를 쓰는 딜러는 받지 않는다.
+ * 스트림은 호출 스레드에서 워커 순서대로 분할하므로 같은 시드·같은 워커 수면 결과도 같다.
+ */
+public final class ParallelStage {
+
+    private ParallelStage() {
+    }
+
+    public static void play(Dealer dealer, int matches, int workers, SeedPolicy seedPolicy) {
+        if (matches < 0 || workers <= 0) {
+            throw new IllegalArgumentException("매치 수는 0 이상, 워커 수는 1 이상이어야 합니다.");
+        }
+        dealer.claimStage();
+        try {
+            if (dealer.seats().size() < Dealer.MIN_PLAYER) {
+                throw new IllegalStateException("게임을 하려면 플레이어가 최소 " + Dealer.MIN_PLAYER + "명 필요합니다.");
+            }
+            playWorkers(dealer, matches, workers, seedPolicy);
+        } finally {
+            dealer.releaseStage();
+        }
+    }
+
+    private static void playWorkers(Dealer dealer, int matches, int workers, SeedPolicy seedPolicy) {
+        List<Player> seats = dealer.seats();
+        int retention = dealer.retention();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Share>> results = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                int share = matches / workers + (w < matches % workers ? 1 : 0);
+                RandomGenerator stream = seedPolicy.nextStream();
+                results.add(executor.submit(() -> playShare(seats, share, retention, stream)));
+            }
+            // 한 워커라도 실패하면 아무것도 합치지 않도록 모두 받은 뒤에 반영한다
+            List<Share> shares = new ArrayList<>(workers);
+            for (Future<Share> result : results) {
+                shares.add(result.get());
+            }
+            PlayerRecord[] total = new PlayerRecord[seats.size()];
+            Arrays.fill(total, PlayerRecord.EMPTY);
+            for (Share share : shares) {
+                for (int i = 0; i < total.length; i++) {
+                    total[i] = total[i].plus(share.deltas()[i]);
+                }
+                dealer.absorb(share.table());
+            }
+            for (int i = 0; i < total.length; i++) {
+                seats.get(i).merge(total[i]);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("병렬 스테이지가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("병렬 스테이지 진행 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 워커 한 개의 몫: 대리 플레이어로 share판을 진행하고 좌석별 변화량과 진행한 딜러를 돌려준다
+    private static Share playShare(List<Player> seats, int share, int retention, RandomGenerator stream) {
+        Dealer table = Dealer.newDealer(stream);
+        // 원래 딜러가 보관할 만큼만 남긴다. 앞 워커의 기록은 뒤 워커의 기록에 밀려나므로 몫보다 많이 남길 필요는 없다
+        table.retainLatest(Math.max(1, Math.min(retention, share)));
+        List<Player> standIns = new ArrayList<>(seats.size());
+        for (Player player : seats) {
+            standIns.add(table.enrollPlayer(player.standIn()));
+        }
+        PlayerRecord initial = standIns.get(0).getRecord();
+        for (int i = 0; i < share; i++) {
+            table.newGame();
+            table.shuffle();
+            table.dealCard();
+            table.handOpen();
+            table.retrieveCard();
+        }
+        PlayerRecord[] deltas = new PlayerRecord[standIns.size()];
+        for (int i = 0; i < deltas.length; i++) {
+            deltas[i] = standIns.get(i).getRecord().minus(initial);
+        }
+        return new Share(deltas, table);
+    }
+
+    private record Share(PlayerRecord[] deltas, Dealer table) {
+    }
+}
@@ -0,0 +1,22 @@
+package dealer;
+
+import player.Player;
+
+import java.util.List;
+
+/**
+ * 한 시점의 좌석 배치. 매치 기록은 좌석 번호만 남기므로 그 매치의 배치를 함께 붙여 두어야, 나중에 자리가 바뀌어도
+ * 좌석 번호를 그때의 플레이어와 닉네임으로 되돌릴 수 있다. 배치가 바뀔 때만 새로 만들어지므로 매치마다 할당이 없다.
+ */
+record Seating(List<Player> players, List<String> nickNames) {
+
+    static final Seating EMPTY = new Seating(List.of(), List.of());
+
+    static Seating of(List<Player> players) {
+        return new Seating(List.copyOf(players), players.stream().map(Player::getNickName).toList());
+    }
+
+    int size() {
+        return players.size();
+    }
+}
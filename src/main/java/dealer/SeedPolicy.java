@@ -0,0 +1,54 @@
+package dealer;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * 테이블마다 독립된 셔플 난수 스트림을 나눠주는 시드 정책.
+ * <p>
+ * 하나의 분할 가능(splittable) 루트 생성기에서 {@link #nextStream()}을 호출할 때마다 새 스트림을 쪼개 준다.
+ * 같은 알고리즘·같은 시드로 만든 정책은 같은 순서로 같은 스트림을 내주므로, 테이블(또는 스레드)을 만드는
+ * 순서만 같다면 병렬 시뮬레이션도 시드 단위로 재현된다. 게임 중에는 각 덱이 자기 스트림만 쓰므로 경합이 없다.
+ */
+public final class SeedPolicy {
+
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    private final RandomGenerator.SplittableGenerator root;
+
+    private SeedPolicy(RandomGenerator.SplittableGenerator root) {
+        this.root = root;
+    }
+
+    // 매 실행마다 다른 결과
+    public static SeedPolicy entropy() {
+        return new SeedPolicy(factory(DEFAULT_ALGORITHM).create());
+    }
+
+    // 같은 시드면 같은 결과
+    public static SeedPolicy fixed(long seed) {
+        return fixed(DEFAULT_ALGORITHM, seed);
+    }
+
+    public static SeedPolicy fixed(String algorithm, long seed) {
+        return new SeedPolicy(factory(algorithm).create(seed));
+    }
+
+    public static SeedPolicy of(RandomGenerator.SplittableGenerator root) {
+        return new SeedPolicy(Objects.requireNonNull(root, "루트 난수 생성기는 null일 수 없습니다."));
+    }
+
+    // 테이블 생성 시에만 불리므로 루트 분할만 직렬화한다
+    public synchronized RandomGenerator nextStream() {
+        return root.split();
+    }
+
+    private static RandomGeneratorFactory<RandomGenerator.SplittableGenerator> factory(String algorithm) {
+        RandomGeneratorFactory<RandomGenerator.SplittableGenerator> factory = RandomGeneratorFactory.of(algorithm);
+        if (!factory.isSplittable()) {
+            throw new IllegalArgumentException("분할 가능한 난수 알고리즘이 아닙니다: " + algorithm);
+        }
+        return factory;
+    }
+}
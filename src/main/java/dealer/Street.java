@@ -0,0 +1,13 @@
+package dealer;
+
+/**
+ * 홀덤 딜러의 진행 단계. 한 매치는 READY → PREFLOP → FLOP → TURN → RIVER → SHOWDOWN → READY 순으로 돈다.
+ */
+public enum Street {
+    READY,      // 다음 매치를 기다림
+    PREFLOP,    // 홀 카드 2장씩
+    FLOP,       // 공용 카드 3장
+    TURN,       // 공용 카드 4장
+    RIVER,      // 공용 카드 5장
+    SHOWDOWN    // 패를 비교해 정산함
+}
@@ -0,0 +1,156 @@
+package dealer;
+
+import player.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link TableManager}가 돌리는 테이블 하나. 딜러 하나와 그 딜러를 움직이는 구동 작업으로 이루어진다.
+ * <p>
+ * 구동 작업은 매치를 {@value #SLICE_MATCHES}판씩 끊어 진행하고 다음 조각을 다시 실행기에 넘긴다. 조각은 한 번에
+ * 하나만 돌고 실행기에 넘기는 시점에 앞 조각의 변경이 다음 조각에 보이므로, 조각마다 다른 스레드에서 돌아도 딜러는
+ * 한 스레드가 쓰는 것과 같다. 조각 사이에 다른 테이블이 끼어들 수 있어 수천 개 테이블이 몇 개의 스레드를 나눠 써도
+ * 한 테이블이 스레드를 독차지하지 않는다. {@link #stop()}은 다음 매치 경계에서 멈춘다.
+ */
+public final class Table {
+
+    static final int SLICE_MATCHES = 64;
+
+    private final Dealer dealer;
+    private final Executor executor;
+    private volatile boolean running;
+    private volatile boolean stopRequested;
+    private volatile CompletableFuture<Table> completion;
+    // 조각이 끝날 때마다 구동 작업만 갱신한다
+    private volatile long played;
+    private volatile long draws;
+    private long remaining;
+
+    Table(Dealer dealer, Executor executor) {
+        this.dealer = dealer;
+        this.executor = executor;
+        this.completion = CompletableFuture.completedFuture(this);
+    }
+
+    // 딜러의 테이블 번호와 같다
+    public long getId() {
+        return dealer.getTableId();
+    }
+
+    // 로그·이벤트 버스 등 딜러 설정은 테이블이 멈춰 있을 때만 바꾼다
+    public Dealer getDealer() {
+        return dealer;
+    }
+
+    // start()와 같은 모니터를 잡으므로 등록이 시작과 겹쳐 첫 조각이 도는 중에 자리가 바뀌는 일이 없다
+    public synchronized Player enroll(Player player) {
+        if (running) {
+            throw new IllegalStateException("진행 중인 테이블에는 플레이어를 등록할 수 없습니다: " + getId());
+        }
+        return dealer.enrollPlayer(player);
+    }
+
+    // 멈출 때까지 계속 진행한다
+    public CompletableFuture<Table> start() {
+        return start(Long.MAX_VALUE);
+    }
+
+    /**
+     * matches판을 진행하도록 구동 작업을 띄운다. 돌려주는 future는 다 진행하거나 멈추면 이 테이블로, 진행 중 예외가 나면
+     * 그 예외로 끝난다.
+     */
+    public synchronized CompletableFuture<Table> start(long matches) {
+        if (matches < 0) {
+            throw new IllegalArgumentException("매치 수는 0 이상이어야 합니다: " + matches);
+        }
+        if (running) {
+            throw new IllegalStateException("이미 진행 중인 테이블입니다: " + getId());
+        }
+        if (dealer.seats().size() < Dealer.MIN_PLAYER) {
+            throw new IllegalStateException("게임을 하려면 플레이어가 최소 " + Dealer.MIN_PLAYER + "명 필요합니다.");
+        }
+        if (!dealer.isReady()) {
+            throw new IllegalStateException("진행 중인 게임이 있는 딜러로는 테이블을 시작할 수 없습니다.");
+        }
+        CompletableFuture<Table> started = new CompletableFuture<>();
+        remaining = matches;
+        stopRequested = false;
+        completion = started;
+        running = true;
+        try {
+            executor.execute(this::runSlice);
+        } catch (RejectedExecutionException e) {
+            running = false;
+            throw new IllegalStateException("닫힌 테이블 관리자의 테이블은 시작할 수 없습니다.", e);
+        }
+        return started;
+    }
+
+    // 진행 중인 매치까지만 마치고 멈춘다. 멈춘 테이블은 다시 start()할 수 있다
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 마지막 start()의 future. 시작한 적이 없으면 이미 끝나 있다
+    public CompletableFuture<Table> completion() {
+        return completion;
+    }
+
+    public long getMatchesPlayed() {
+        return played;
+    }
+
+    public long getDrawCount() {
+        return draws;
+    }
+
+    public int getPlayerCount() {
+        return dealer.seats().size();
+    }
+
+    private void runSlice() {
+        try {
+            long slice = Math.min(SLICE_MATCHES, remaining);
+            long done = 0;
+            while (done < slice && !stopRequested) {
+                dealer.newGame();
+                dealer.shuffle();
+                dealer.dealCard();
+                dealer.handOpen();
+                dealer.retrieveCard();
+                done++;
+            }
+            remaining -= done;
+            played += done;
+            draws = dealer.getDrawCount();
+            if (remaining == 0 || stopRequested) {
+                finish(null);
+            } else {
+                executor.execute(this::runSlice);
+            }
+        } catch (RuntimeException | Error e) {
+            finish(e);
+        }
+    }
+
+    private void finish(Throwable failure) {
+        CompletableFuture<Table> done = completion;
+        running = false;
+        if (failure == null) {
+            done.complete(this);
+        } else {
+            done.completeExceptionally(failure);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Table#" + getId() + (running ? " (진행 중)" : "");
+    }
+}
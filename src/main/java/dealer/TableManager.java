@@ -0,0 +1,131 @@
+package dealer;
+
+import ledger.PointLedger;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 {@link Table}을 한 프로세스에 띄워 동시에 진행한다.
+ * <p>
+ * 테이블마다 {@link SeedPolicy}에서 쪼갠 난수 스트림과 자기 딜러를 가지며, 판돈 정산은 모든 테이블이 원장 하나를 함께 쓴다.
+ * 구동 작업은 실행 중인 JVM이 가상 스레드를 지원하면(JDK 21 이상) 조각마다 가상 스레드에서, 아니면 코어 수만큼의
+ * 작업 훔치기 풀에서 돈다. 어느 쪽이든 테이블 수는 플랫폼 스레드 수가 아니라 메모리로만 제한된다.
+ */
+public final class TableManager implements AutoCloseable {
+
+    private final SeedPolicy seedPolicy;
+    private final PointLedger ledger;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final ConcurrentHashMap<Long, Table> tables = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private TableManager(SeedPolicy seedPolicy, PointLedger ledger) {
+        this.seedPolicy = seedPolicy;
+        this.ledger = ledger;
+        this.executor = Drivers.newExecutor();
+        this.virtualThreads = Drivers.isVirtual(executor);
+    }
+
+    public static TableManager newTableManager(SeedPolicy seedPolicy) {
+        return newTableManager(seedPolicy, PointLedger.newLedger());
+    }
+
+    public static TableManager newTableManager(SeedPolicy seedPolicy, PointLedger ledger) {
+        return new TableManager(Objects.requireNonNull(seedPolicy, "시드 정책은 null일 수 없습니다."),
+                Objects.requireNonNull(ledger, "원장은 null일 수 없습니다."));
+    }
+
+    // 최근 1판의 기록만 보관하는 빈 테이블을 연다. 플레이어를 등록한 뒤 start()한다
+    public Table openTable() {
+        if (closed) {
+            throw new IllegalStateException("닫힌 테이블 관리자입니다.");
+        }
+        Dealer dealer = Dealer.newDealer(seedPolicy);
+        dealer.retainLatest(1);
+        dealer.settleWith(ledger);
+        Table table = new Table(dealer, executor);
+        tables.put(table.getId(), table);
+        return table;
+    }
+
+    public Optional<Table> table(long id) {
+        return Optional.ofNullable(tables.get(id));
+    }
+
+    public List<Table> tables() {
+        return List.copyOf(tables.values());
+    }
+
+    // 멈춘 테이블을 목록에서 뺀다. 플레이어 등록은 그대로 남는다
+    public void closeTable(Table table) {
+        if (table.isRunning()) {
+            throw new IllegalStateException("진행 중인 테이블은 닫을 수 없습니다. stop() 후 완료를 기다리세요: " + table.getId());
+        }
+        tables.remove(table.getId(), table);
+    }
+
+    public void stopAll() {
+        for (Table table : tables.values()) {
+            table.stop();
+        }
+    }
+
+    // 지금 진행 중인 모든 테이블이 끝날 때까지 기다린다. 진행 중 예외가 난 테이블이 있으면 그 예외를 던진다
+    public void awaitAll() {
+        CompletableFuture.allOf(tables.values().stream()
+                .map(Table::completion)
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    public TableStats stats() {
+        int count = 0;
+        int running = 0;
+        int players = 0;
+        long matches = 0;
+        long draws = 0;
+        for (Table table : tables.values()) {
+            count++;
+            if (table.isRunning()) {
+                running++;
+            }
+            players += table.getPlayerCount();
+            matches += table.getMatchesPlayed();
+            draws += table.getDrawCount();
+        }
+        return new TableStats(count, running, players, matches, draws);
+    }
+
+    public PointLedger getLedger() {
+        return ledger;
+    }
+
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // 모든 테이블을 멈추고 진행 중인 매치가 끝날 때까지 기다린 뒤 구동 스레드를 정리한다
+    @Override
+    public void close() {
+        closed = true;
+        stopAll();
+        try {
+            CompletableFuture.allOf(tables.values().stream()
+                    .map(table -> table.completion().exceptionally(e -> table))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
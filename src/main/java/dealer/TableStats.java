@@ -0,0 +1,8 @@
+package dealer;
+
+/**
+ * {@link TableManager}가 호스팅하는 테이블 전체의 집계. 테이블마다 조각 단위로 갱신된 값을 더하므로
+ * 진행 중에는 조금 늦은 값일 수 있다.
+ */
+public record TableStats(int tables, int running, int players, long matches, long draws) {
+}
@@ -0,0 +1,420 @@
+package dealer;
+
+import ledger.PointLedger;
+import player.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 많은 참가자가 여러 테이블에 나눠 앉아 동시에 진행하는 토너먼트.
+ * <p>
+ * 포인트가 0 이하가 된 플레이어는 그 매치가 끝나는 대로 탈락한다. 인원이 줄어든 테이블은 남은 인원이 나머지 테이블에
+ * 다 앉을 수 있으면 깨져서 흩어지고, 아니면 가장 많은 테이블에서 한 명씩 받아 두 명 이상 차이 나지 않게 맞춘다.
+ * 남은 인원이 한 테이블에 앉을 수 있게 되면 모두 한 곳에 모아 파이널 테이블을 꾸리고, 한 명이 남으면 끝난다.
+ * 판돈은 전체 매치 수가 참가자 수 × {@link #raiseBetEvery(int)}만큼 쌓일 때마다 두 배로 오르며(초기 포인트가 상한),
+ * 그래서 참가자가 많아도 토너먼트 길이는 참가자 수에 비례하는 데 그친다.
+ * <p>
+ * 좌석 배치는 락 하나(floor)로 정하지만 테이블은 자기 인원이 바뀐 매치 경계에서만 잠깐 잡는다. 옮길 플레이어는 보내는
+ * 테이블이 자기 다음 매치 경계에서 내보내고 받는 테이블도 자기 매치 경계에서 앉히므로, 재배치 때문에 다른 테이블이
+ * 멈추지 않는다. 기다리는 것은 사람이 모자라 어차피 진행할 수 없는 테이블뿐이다. 판돈은 모든 테이블이 원장 하나로
+ * 올인 정산하므로({@link PointLedger#settleAllIn}) 누구의 포인트도 0 아래로 내려가지 않고 포인트 총합이 그대로 우승자에게 모인다.
+ */
+public final class Tournament {
+
+    public static final int DEFAULT_LEVEL_MATCHES_PER_ENTRANT = 50;
+
+    private final List<Player> entrants;
+    private final SeedPolicy seedPolicy;
+    private final PointLedger ledger;
+    private final ExecutorService executor = Drivers.newExecutor();
+    private final CompletableFuture<TournamentResult> result = new CompletableFuture<>();
+    private final LongAdder matches = new LongAdder();
+    private volatile long levelMatches;
+    private volatile boolean finished;
+
+    // ---- 여기부터는 floor 락으로 보호한다 ----
+    private final Object floor = new Object();
+    private final List<TableSeats> tables = new ArrayList<>();
+    private final Player[] places; // places[k]가 k+1등
+    private int remaining;
+    private List<Player> finalTable = List.of();
+    private boolean started;
+    private long startNanos;
+
+    private Tournament(List<Player> entrants, SeedPolicy seedPolicy, PointLedger ledger) {
+        this.entrants = entrants;
+        this.seedPolicy = seedPolicy;
+        this.ledger = ledger;
+        this.places = new Player[entrants.size()];
+        this.remaining = entrants.size();
+        this.levelMatches = (long) entrants.size() * DEFAULT_LEVEL_MATCHES_PER_ENTRANT;
+    }
+
+    public static Tournament newTournament(List<Player> entrants, SeedPolicy seedPolicy) {
+        return newTournament(entrants, seedPolicy, PointLedger.newLedger());
+    }
+
+    public static Tournament newTournament(List<Player> entrants, SeedPolicy seedPolicy, PointLedger ledger) {
+        List<Player> players = List.copyOf(entrants);
+        if (players.size() < Dealer.MIN_PLAYER) {
+            throw new IllegalArgumentException("토너먼트에는 최소 " + Dealer.MIN_PLAYER + "명이 필요합니다.");
+        }
+        Set<Player> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Player player : players) {
+            if (!distinct.add(player)) {
+                throw new IllegalArgumentException("같은 플레이어가 두 번 참가할 수 없습니다: " + player.getNickName());
+            }
+            if (player.getPoint() <= 0) {
+                throw new IllegalArgumentException("포인트가 없는 플레이어는 참가할 수 없습니다: " + player.getNickName());
+            }
+        }
+        return new Tournament(players,
+                Objects.requireNonNull(seedPolicy, "시드 정책은 null일 수 없습니다."),
+                Objects.requireNonNull(ledger, "원장은 null일 수 없습니다."));
+    }
+
+    // 판돈이 오르는 주기를 참가자 1명당 매치 수로 정한다. 시작 전에만 바꿀 수 있다
+    public void raiseBetEvery(int matchesPerEntrant) {
+        if (matchesPerEntrant <= 0) {
+            throw new IllegalArgumentException("판돈 인상 주기는 1 이상이어야 합니다: " + matchesPerEntrant);
+        }
+        synchronized (floor) {
+            if (started) {
+                throw new IllegalStateException("이미 시작한 토너먼트입니다.");
+            }
+            levelMatches = (long) entrants.size() * matchesPerEntrant;
+        }
+    }
+
+    // 지금 단계의 판돈
+    public int currentBet() {
+        long level = matches.sum() / levelMatches;
+        return level >= Integer.SIZE ? Player.INITIAL_POINT
+                : (int) Math.min((long) Dealer.BET_POINT << level, Player.INITIAL_POINT);
+    }
+
+    /**
+     * 참가자를 테이블당 최대 {@value Dealer#MAX_PLAYER}명씩 고르게 앉히고 모든 테이블을 시작한다.
+     * 돌려주는 future는 한 명이 남으면 결과로 끝난다.
+     */
+    public CompletableFuture<TournamentResult> start() {
+        synchronized (floor) {
+            if (started) {
+                throw new IllegalStateException("이미 시작한 토너먼트입니다.");
+            }
+            started = true;
+            startNanos = System.nanoTime();
+            int tableCount = (entrants.size() + Dealer.MAX_PLAYER - 1) / Dealer.MAX_PLAYER;
+            for (int t = 0; t < tableCount; t++) {
+                Dealer dealer = Dealer.newDealer(seedPolicy);
+                dealer.retainLatest(1);
+                dealer.settleWith(ledger);
+                // 판돈보다 적게 남은 플레이어는 남은 만큼만 걸고 탈락한다
+                dealer.setAllIn(true);
+                tables.add(new TableSeats(dealer));
+            }
+            for (int i = 0; i < entrants.size(); i++) {
+                TableSeats table = tables.get(i % tableCount);
+                table.dealer.enrollPlayer(entrants.get(i));
+                table.seated++;
+            }
+            if (tableCount == 1) {
+                finalTable = entrants;
+            }
+            for (TableSeats table : tables) {
+                executor.execute(table);
+            }
+        }
+        return result;
+    }
+
+    public CompletableFuture<TournamentResult> result() {
+        return result;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int remaining() {
+        synchronized (floor) {
+            return remaining;
+        }
+    }
+
+    public int tableCount() {
+        synchronized (floor) {
+            return tables.size();
+        }
+    }
+
+    public long matchesPlayed() {
+        return matches.sum();
+    }
+
+    public PointLedger getLedger() {
+        return ledger;
+    }
+
+    private void finish() {
+        Set<Player> placed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(placed, places);
+        for (Player player : entrants) {
+            if (!placed.contains(player)) {
+                places[0] = player;
+            }
+        }
+        remaining = 0;
+        finished = true;
+        executor.shutdown();
+        result.complete(new TournamentResult(List.of(places), finalTable, matches.sum(), System.nanoTime() - startNanos));
+    }
+
+    private void fail(Throwable e) {
+        finished = true;
+        executor.shutdown();
+        result.completeExceptionally(e);
+    }
+
+    /**
+     * 토너먼트 테이블 하나. 딜러는 이 테이블의 구동 작업만 움직이며, 락 안에서 정한 이동은 매치 경계에서 처리한다.
+     */
+    private final class TableSeats implements Runnable {
+
+        private final Dealer dealer;
+        // ---- floor 락으로 보호 ----
+        private final ArrayDeque<Player> inbox = new ArrayDeque<>();
+        private final ArrayDeque<TableSeats> sendTo = new ArrayDeque<>();
+        private int seated;   // 도착할 인원은 더하고 떠날 인원은 뺀, 배치상의 인원
+        private int incoming; // 자리는 잡았지만 아직 도착하지 않은 인원
+        private boolean parked;
+        private boolean closed;
+        private boolean unsettled; // 인원이 줄어 배치를 다시 봐야 한다
+        // 다른 테이블이 이 테이블에 일을 남겼다. 다음 매치 경계에서 락을 잡고 처리한다
+        private volatile boolean pending;
+
+        TableSeats(Dealer dealer) {
+            this.dealer = dealer;
+        }
+
+        @Override
+        public void run() {
+            try {
+                dealer.setBetPoint(currentBet());
+                for (int i = 0; i < Table.SLICE_MATCHES; i++) {
+                    if (finished || pending && !reseat()) {
+                        return;
+                    }
+                    dealer.newGame();
+                    dealer.shuffle();
+                    dealer.dealCard();
+                    dealer.handOpen();
+                    dealer.retrieveCard();
+                    matches.increment();
+                    if (hasBust() && !reseat()) {
+                        return;
+                    }
+                }
+                if (!finished) {
+                    executor.execute(this);
+                }
+            } catch (RuntimeException | Error e) {
+                if (!finished) {
+                    fail(e);
+                }
+            }
+        }
+
+        private boolean hasBust() {
+            List<Player> seats = dealer.seats();
+            for (int i = 0; i < seats.size(); i++) {
+                if (seats.get(i).getPoint() <= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 탈락·도착·이동을 처리하고 배치를 다시 정한다. 이 테이블이 계속 진행할 수 있으면 true
+        private boolean reseat() {
+            synchronized (floor) {
+                if (finished) {
+                    return false;
+                }
+                pending = false;
+                eliminate();
+                if (remaining == 1) {
+                    finish();
+                    return false;
+                }
+                // 떠날 사람을 먼저 보내야 도착한 사람을 앉혀도 자리가 넘치지 않는다
+                sendAway();
+                while (!inbox.isEmpty()) {
+                    dealer.enrollPlayer(inbox.poll());
+                }
+                // 보내기로 한 플레이어가 그새 탈락했으면 받을 테이블의 자리를 도로 비운다
+                for (int excess = sendTo.size() - incoming; excess > 0; excess--) {
+                    sendTo.pollLast().cancelIncoming();
+                    seated++;
+                }
+                if (unsettled && !closed) {
+                    unsettled = false;
+                    rebalance();
+                    sendAway();
+                }
+                List<Player> seats = dealer.seats();
+                if (closed || seats.size() < Dealer.MIN_PLAYER) {
+                    // 닫힌 테이블은 아직 도착하지 않은 인원을 마저 넘기려고, 모자란 테이블은 사람을 받으려고 기다린다
+                    parked = true;
+                    return false;
+                }
+                if (finalTable.isEmpty() && tables.size() == 1 && seats.size() == remaining) {
+                    finalTable = List.copyOf(seats);
+                }
+                return true;
+            }
+        }
+
+        // 앉아 있는 사람부터 보내고, 모자라면 막 도착한 사람을 앉히지 않고 그대로 넘긴다
+        private void sendAway() {
+            List<Player> seats = dealer.seats();
+            while (!sendTo.isEmpty()) {
+                Player player;
+                if (!seats.isEmpty()) {
+                    player = seats.get(seats.size() - 1);
+                    dealer.removePlayer(player);
+                } else if (!inbox.isEmpty()) {
+                    player = inbox.poll();
+                } else {
+                    return;
+                }
+                sendTo.poll().deliver(player);
+            }
+        }
+
+        // 포인트가 바닥난 플레이어를 내보내고 순위를 매긴다. 같은 매치에서 함께 탈락하면 포인트가 적은 쪽이 아래다
+        private void eliminate() {
+            List<Player> busted = null;
+            for (Player player : dealer.seats()) {
+                if (player.getPoint() <= 0) {
+                    if (busted == null) {
+                        busted = new ArrayList<>(Dealer.MAX_PLAYER);
+                    }
+                    busted.add(player);
+                }
+            }
+            if (busted == null) {
+                return;
+            }
+            busted.sort(Comparator.comparingInt(Player::getPoint));
+            for (Player player : busted) {
+                dealer.removePlayer(player);
+                places[--remaining] = player;
+                seated--;
+            }
+            unsettled = true;
+        }
+
+        private void rebalance() {
+            if (remaining <= Dealer.MAX_PLAYER) {
+                gatherFinalTable();
+            } else if (incoming == 0 && remaining <= (tables.size() - 1) * Dealer.MAX_PLAYER) {
+                breakTable();
+            } else {
+                balance();
+            }
+        }
+
+        // 다른 테이블의 인원을 모두 이 테이블로 모은다
+        private void gatherFinalTable() {
+            while (!sendTo.isEmpty()) {
+                sendTo.poll().cancelIncoming();
+                seated++;
+            }
+            for (TableSeats other : tables) {
+                if (other == this) {
+                    continue;
+                }
+                for (int i = 0; i < other.seated; i++) {
+                    other.sendTo.add(this);
+                }
+                seated += other.seated;
+                incoming += other.seated;
+                other.seated = 0;
+                other.closed = true;
+                other.wake();
+            }
+            tables.clear();
+            tables.add(this);
+        }
+
+        // 이 테이블을 닫고 인원을 가장 적은 테이블부터 채워 보낸다
+        private void breakTable() {
+            tables.remove(this);
+            closed = true;
+            for (; seated > 0; seated--) {
+                TableSeats to = tables.get(0);
+                for (TableSeats table : tables) {
+                    if (table.seated < to.seated) {
+                        to = table;
+                    }
+                }
+                to.seated++;
+                to.incoming++;
+                sendTo.add(to);
+            }
+        }
+
+        // 가장 많은 테이블과 두 명 이상 차이 나지 않을 때까지 한 명씩 받는다
+        private void balance() {
+            while (true) {
+                TableSeats fullest = null;
+                for (TableSeats table : tables) {
+                    if (table != this && (fullest == null || table.seated > fullest.seated)) {
+                        fullest = table;
+                    }
+                }
+                if (fullest == null || fullest.seated - seated < 2) {
+                    return;
+                }
+                fullest.seated--;
+                fullest.sendTo.add(this);
+                fullest.wake();
+                seated++;
+                incoming++;
+            }
+        }
+
+        private void cancelIncoming() {
+            seated--;
+            incoming--;
+            unsettled = true;
+            wake();
+        }
+
+        private void deliver(Player player) {
+            inbox.add(player);
+            incoming--;
+            wake();
+        }
+
+        // 다음 매치 경계에서 남은 일을 처리하게 한다. 멈춰 있던 테이블은 다시 띄운다
+        private void wake() {
+            pending = true;
+            if (parked) {
+                parked = false;
+                executor.execute(this);
+            }
+        }
+    }
+}
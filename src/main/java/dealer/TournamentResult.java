@@ -0,0 +1,20 @@
+package dealer;
+
+import player.Player;
+
+import java.util.List;
+
+/**
+ * 끝난 토너먼트의 결과. standings는 1등부터 순서대로이고, finalTable은 파이널 테이블이 꾸려졌을 때 앉아 있던 플레이어들이다.
+ */
+public record TournamentResult(List<Player> standings, List<Player> finalTable, long matches, long elapsedNanos) {
+
+    public Player champion() {
+        return standings.get(0);
+    }
+
+    // 1부터 센 최종 순위
+    public int placeOf(Player player) {
+        return standings.indexOf(player) + 1;
+    }
+}
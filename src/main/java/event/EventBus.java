@@ -0,0 +1,213 @@
+package event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 매치 이벤트를 구독자에게 비동기로 전달한다.
+ * <p>
+ * 구독자마다 크기가 정해진 큐와 전용 스레드가 있어서, 발행은 큐에 넣기만 하고 바로 돌아온다. 전용 스레드는
+ * 큐에 쌓인 이벤트를 최대 batchSize개씩 꺼내 한 번에 넘기므로 느린 콘솔은 묶음 단위로 따라온다.
+ * 큐가 가득 차면 이벤트를 버리지 않고 자리가 날 때까지 발행 스레드가 기다린다.
+ * {@link #close()}는 남은 이벤트를 모두 전달한 뒤 스레드를 끝낸다.
+ * <p>
+ * 구독과 발행은 읽기 락, 닫기는 쓰기 락을 잡으므로 닫힌 뒤에는 어떤 구독도 붙지 못하고 어떤 발행도 큐에 들어가지 못하며,
+ * 종료 표식이 항상 마지막 이벤트다.
+ * 구독자가 {@link Error}를 던지면 그 구독자의 스레드는 멈추고 큐를 비운다. 이후 그 구독자로 가는 발행은 기다리지 않고
+ * 예외를 던지며, 닫을 때 그 Error를 알린다.
+ */
+public final class EventBus implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    // 전용 스레드에 종료를 알리는 표식
+    private static final MatchEvent END = new MatchEvent.GameStarted(-1);
+
+    private final int capacity;
+    private final int batchSize;
+    private final List<Dispatcher> dispatchers = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    private EventBus(int capacity, int batchSize) {
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    public static EventBus newEventBus() {
+        return newEventBus(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public static EventBus newEventBus(int capacity, int batchSize) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("큐 크기와 배치 크기는 1 이상이어야 합니다.");
+        }
+        return new EventBus(capacity, batchSize);
+    }
+
+    // 닫기와 같은 락을 잡으므로 닫는 중에 붙은 구독자가 종료 표식을 받지 못하고 남는 일은 없다
+    public void subscribe(String name, EventSubscriber subscriber) {
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("닫힌 이벤트 버스입니다.");
+            }
+            Dispatcher dispatcher = new Dispatcher(subscriber);
+            Thread thread = new Thread(dispatcher, "event-" + name);
+            thread.setDaemon(true);
+            dispatcher.thread = thread;
+            dispatchers.add(dispatcher);
+            thread.start();
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    public void publish(MatchEvent event) {
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("닫힌 이벤트 버스입니다.");
+            }
+            for (Dispatcher dispatcher : dispatchers) {
+                dispatcher.put(event);
+            }
+        } finally {
+            closing.readLock().unlock();
+        }
+    }
+
+    /**
+     * 남은 이벤트를 모두 전달할 때까지 기다린 뒤 닫는다. 구독자가 예외를 던진 적이 있으면 첫 예외를 알린다.
+     */
+    @Override
+    public void close() {
+        closing.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // 쓰기 락 아래라 진행 중인 발행이 없으므로 END 뒤에 들어오는 이벤트는 없다
+            for (Dispatcher dispatcher : dispatchers) {
+                try {
+                    dispatcher.put(END);
+                } catch (IllegalStateException e) {
+                    // 이미 멈춘 구독자는 아래에서 실패로 알린다
+                }
+            }
+        } finally {
+            closing.writeLock().unlock();
+        }
+        RuntimeException failure = null;
+        for (Dispatcher dispatcher : dispatchers) {
+            dispatcher.join();
+            if (failure == null && dispatcher.failure != null) {
+                failure = new IllegalStateException("이벤트 구독자 처리 중 예외가 발생했습니다: " + dispatcher.thread.getName(), dispatcher.failure);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private final class Dispatcher implements Runnable {
+
+        private final BlockingQueue<MatchEvent> queue = new ArrayBlockingQueue<>(capacity);
+        private final EventSubscriber subscriber;
+        private Thread thread;
+        private volatile Throwable failure;
+        // 구독자가 Error를 던져 스레드가 멈췄으면 그 Error
+        private volatile Error dead;
+
+        private Dispatcher(EventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        // 큐가 가득 차 있을 때만 기다리며, 기다리는 동안 스레드가 멈추면 빠져나온다
+        private void put(MatchEvent event) {
+            try {
+                while (!queue.offer(event, 10, TimeUnit.MILLISECONDS)) {
+                    checkAlive();
+                }
+                checkAlive();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("이벤트 발행 중 인터럽트되었습니다.", e);
+            }
+        }
+
+        private void checkAlive() {
+            if (dead != null) {
+                throw new IllegalStateException("이벤트 구독자 스레드가 멈췄습니다: " + thread.getName(), dead);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<MatchEvent> batch = new ArrayList<>(batchSize);
+            try {
+                while (true) {
+                    batch.add(queue.take());
+                    queue.drainTo(batch, batchSize - 1);
+                    // 표식은 닫을 때 마지막으로 들어가지만, 묶음 어디에 있든 찾아서 앞의 이벤트까지만 전달한다
+                    int end = indexOfEnd(batch);
+                    if (end >= 0) {
+                        deliver(batch.subList(0, end));
+                        return;
+                    }
+                    deliver(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Error e) {
+                // 기다리는 발행 스레드가 깨어나 멈춘 것을 알아채도록 표시하고 큐를 비운다
+                dead = e;
+                if (failure == null) {
+                    failure = e;
+                }
+                queue.clear();
+            }
+        }
+
+        // 표식은 값이 아닌 참조로 찾는다 (같은 값의 GameStarted가 발행될 수 있다)
+        private static int indexOfEnd(List<MatchEvent> batch) {
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.get(i) == END) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // 구독자 하나가 실패해도 전달은 멈추지 않는다
+        private void deliver(List<MatchEvent> batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                subscriber.onEvents(batch);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        private void join() {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
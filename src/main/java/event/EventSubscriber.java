@@ -0,0 +1,13 @@
+package event;
+
+import java.util.List;
+
+/**
+ * 이벤트 구독자. 구독자마다 전용 스레드에서 발행 순서대로, 쌓여 있던 만큼 묶어서 받는다.
+ */
+@FunctionalInterface
+public interface EventSubscriber {
+
+    // batch는 호출이 끝나면 재사용되므로 보관하지 않는다
+    void onEvents(List<MatchEvent> batch);
+}
@@ -0,0 +1,53 @@
+package event;
+
+import common.Hand;
+import dealer.MatchResult;
+import player.PlayerRecord;
+
+import java.util.List;
+
+/**
+ * 딜러가 매치를 진행하며 내보내는 이벤트. 구독자는 다른 스레드에서 받으므로
+ * 플레이어 객체 대신 닉네임과 카드 마스크·전적 같은 값만 담는다.
+ */
+public sealed interface MatchEvent {
+
+    record PlayerEnrolled(String nickName) implements MatchEvent {
+    }
+
+    record GameStarted(long matchId) implements MatchEvent {
+    }
+
+    record Shuffled(long matchId) implements MatchEvent {
+    }
+
+    record Dealt(long matchId) implements MatchEvent {
+    }
+
+    // 패 문자열은 구독자가 출력할 때 만든다
+    record HandsOpened(MatchResult result) implements MatchEvent {
+
+        public long matchId() {
+            return result.matchId();
+        }
+    }
+
+    // 무승부면 winner가 null이다
+    record MatchSettled(long matchId, String winner, long winnerHand, int winnerStrength) implements MatchEvent {
+
+        public boolean isDraw() {
+            return winner == null;
+        }
+
+        public String describeWinnerHand() {
+            return Hand.describe(winnerHand, winnerStrength);
+        }
+    }
+
+    // 스테이지 순위대로의 최종 전적
+    record StageEnded(List<Standing> standings) implements MatchEvent {
+
+        public record Standing(String nickName, PlayerRecord record) {
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ledger;
+
+/**
+ * 이체 한 건에서 각 참가자의 승패.
+ */
+public enum Outcome {
+    WIN,
+    LOSS,
+    DRAW
+}
@@ -0,0 +1,295 @@
+package ledger;
+
+import player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 포인트 원장. 한 판의 정산처럼 여러 플레이어 사이의 포인트 이동을 한 건의 이체로 묶어 반영한다.
+ * <p>
+ * 이체는 변화량의 합이 0일 때만 받아들이므로(보존 법칙) 원장을 거친 포인트는 새로 생기거나 사라지지 않는다.
+ * 플레이어는 주소 해시로 잠금 줄(stripe) 중 하나에 묶이고, 이체는 관련된 줄만 번호 순으로 잠근 뒤 모든 참가자에게
+ * 반영하므로 다른 이체나 {@link #audit(Collection, long)}에는 통째로 보이거나 전혀 보이지 않는다. 서로 다른 테이블의
+ * 이체는 대부분 다른 줄을 잠그므로 전역 락 없이 동시에 진행된다.
+ * <p>
+ * 저널을 켜면 반영된 이체를 닉네임 기준으로 남기고, {@link #replay(Function)}로 다른 플레이어들에게 다시 적용할 수 있다.
+ * 저널이 없으면 정산과 이체는 스레드별 작업 배열만 쓰므로 매치마다 할당하지 않는다.
+ */
+public final class PointLedger {
+
+    public static final int DEFAULT_STRIPES = 256;
+
+    // 정산 금액·승패와 잠글 줄 번호를 담는 스레드별 작업 배열. 원장 여러 개가 함께 써도 호출이 겹치지 않는다
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final ReentrantLock[] stripes;
+    private final Queue<Transfer> journal;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private PointLedger(int stripes, boolean journaled) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("잠금 줄 수는 2의 거듭제곱이어야 합니다: " + stripes);
+        }
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.journal = journaled ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    // 저널 없이 원자적 이체와 보존 검사만 한다
+    public static PointLedger newLedger() {
+        return new PointLedger(DEFAULT_STRIPES, false);
+    }
+
+    public static PointLedger journaled() {
+        return journaled(DEFAULT_STRIPES);
+    }
+
+    public static PointLedger journaled(int stripes) {
+        return new PointLedger(stripes, true);
+    }
+
+    /**
+     * 한 판의 판돈을 정산한다. 가장 강한 패가 아닌 참가자는 bet씩 내고, 가장 강한 패를 가진 참가자(들)가
+     * 나눠 가진다. 나누어떨어지지 않는 나머지는 앞 좌석의 공동 승자가 받는다. 단독 승자의 좌석을, 공동 승리면 -1을 돌려준다.
+     */
+    public int settlePot(long matchId, List<Player> seats, int[] strengths, int bet) {
+        return settle(matchId, seats, strengths, bet, false);
+    }
+
+    /**
+     * {@link #settlePot}과 같되 진 참가자는 bet과 남은 포인트 중 적은 쪽만 낸다(올인). 판돈은 실제로 낸 포인트의 합이고,
+     * 남은 포인트는 잠근 상태에서 읽으므로 누구의 포인트도 0 아래로 내려가지 않는다.
+     */
+    public int settleAllIn(long matchId, List<Player> seats, int[] strengths, int bet) {
+        return settle(matchId, seats, strengths, bet, true);
+    }
+
+    private int settle(long matchId, List<Player> seats, int[] strengths, int bet, boolean allIn) {
+        int n = seats.size();
+        requireParties(seats);
+        int best = 0;
+        int bestCount = 0;
+        for (int seat = 0; seat < n; seat++) {
+            if (strengths[seat] > best) {
+                best = strengths[seat];
+                bestCount = 1;
+            } else if (strengths[seat] == best) {
+                bestCount++;
+            }
+        }
+        Scratch scratch = SCRATCH.get().fit(n);
+        int[] amounts = scratch.amounts;
+        Outcome[] outcomes = scratch.outcomes;
+        int winnerSeat = -1;
+        for (int seat = 0; seat < n; seat++) {
+            if (strengths[seat] == best) {
+                outcomes[seat] = bestCount == 1 ? Outcome.WIN : Outcome.DRAW;
+                if (bestCount == 1) {
+                    winnerSeat = seat;
+                }
+            } else {
+                outcomes[seat] = Outcome.LOSS;
+            }
+        }
+        int[] locked = scratch.locked;
+        int count = lock(seats, locked);
+        try {
+            int pot = 0;
+            for (int seat = 0; seat < n; seat++) {
+                if (outcomes[seat] == Outcome.LOSS) {
+                    int paid = allIn ? Math.min(bet, Math.max(seats.get(seat).getPoint(), 0)) : bet;
+                    amounts[seat] = -paid;
+                    pot += paid;
+                }
+            }
+            int share = pot / bestCount;
+            int remainder = pot % bestCount;
+            for (int seat = 0; seat < n; seat++) {
+                if (outcomes[seat] != Outcome.LOSS) {
+                    amounts[seat] = share + remainder;
+                    remainder = 0;
+                }
+            }
+            record(matchId, seats, amounts, outcomes);
+        } finally {
+            unlock(locked, count);
+        }
+        return winnerSeat;
+    }
+
+    /**
+     * 여러 참가자 사이의 이체를 한 번에 반영한다. 변화량의 합이 0이 아니면 아무것도 반영하지 않고 예외를 던진다.
+     */
+    public void transfer(long matchId, List<Player> parties, int[] amounts, Outcome[] outcomes) {
+        int n = parties.size();
+        if (amounts.length != n || outcomes.length != n) {
+            throw new IllegalArgumentException("참가자, 포인트, 승패의 수가 같아야 합니다.");
+        }
+        commit(matchId, parties, amounts, outcomes, SCRATCH.get().fit(n));
+    }
+
+    // amounts와 outcomes는 앞의 parties.size()개만 쓴다 (작업 배열은 더 길 수 있다)
+    private void commit(long matchId, List<Player> parties, int[] amounts, Outcome[] outcomes, Scratch scratch) {
+        int n = parties.size();
+        // 반영 도중에는 실패할 수 없도록 잠그기 전에 모두 확인한다
+        requireParties(parties);
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            Objects.requireNonNull(outcomes[i], "승패는 null일 수 없습니다.");
+            sum += amounts[i];
+        }
+        if (sum != 0) {
+            throw new IllegalArgumentException("이체의 포인트 합은 0이어야 합니다: " + sum);
+        }
+        int[] locked = scratch.locked;
+        int count = lock(parties, locked);
+        try {
+            record(matchId, parties, amounts, outcomes);
+        } finally {
+            unlock(locked, count);
+        }
+    }
+
+    private static void requireParties(List<Player> parties) {
+        for (int i = 0; i < parties.size(); i++) {
+            Objects.requireNonNull(parties.get(i), "참가자는 null일 수 없습니다.");
+        }
+    }
+
+    // 참가자들의 줄을 잠근 상태에서 부른다. 미리 확인한 값만 받으므로 중간에 실패하지 않는다. 모두에게 반영하고 저널에 남긴다
+    private void record(long matchId, List<Player> parties, int[] amounts, Outcome[] outcomes) {
+        int n = parties.size();
+        for (int i = 0; i < n; i++) {
+            apply(parties.get(i), amounts[i], outcomes[i]);
+        }
+        long seq = sequence.getAndIncrement();
+        if (journal != null) {
+            String[] names = new String[n];
+            for (int i = 0; i < n; i++) {
+                names[i] = parties.get(i).getNickName();
+            }
+            journal.add(new Transfer(seq, matchId, names, Arrays.copyOf(amounts, n), Arrays.copyOf(outcomes, n)));
+        }
+    }
+
+    private static void apply(Player player, int amount, Outcome outcome) {
+        player.settle(amount,
+                outcome == Outcome.WIN ? 1 : 0,
+                outcome == Outcome.LOSS ? 1 : 0,
+                outcome == Outcome.DRAW ? 1 : 0);
+    }
+
+    // 참가자들의 잠금 줄을 번호 순으로, 중복 없이 잠그고 indexes 앞에 채운 줄 수를 돌려준다 (교착 방지)
+    private int lock(List<Player> parties, int[] indexes) {
+        int count = 0;
+        for (int i = 0; i < parties.size(); i++) {
+            int index = stripeOf(parties.get(i));
+            int at = count;
+            while (at > 0 && indexes[at - 1] > index) {
+                indexes[at] = indexes[at - 1];
+                at--;
+            }
+            if (at > 0 && indexes[at - 1] == index) {
+                // 이미 잠글 줄: 밀어 둔 자리를 되돌린다
+                System.arraycopy(indexes, at + 1, indexes, at, count - at);
+                continue;
+            }
+            indexes[at] = index;
+            count++;
+        }
+        for (int i = 0; i < count; i++) {
+            stripes[indexes[i]].lock();
+        }
+        return count;
+    }
+
+    private void unlock(int[] locked, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[locked[i]].unlock();
+        }
+    }
+
+    private int stripeOf(Player player) {
+        int h = System.identityHashCode(player) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (stripes.length - 1);
+    }
+
+    /**
+     * 모든 줄을 잠근 상태에서 players의 포인트 합이 expectedTotal인지 확인한다. 진행 중인 이체가 반쯤 보이는 일은 없다.
+     */
+    public boolean audit(Collection<Player> players, long expectedTotal) {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+        try {
+            long total = 0;
+            for (Player player : players) {
+                total += player.getPoint();
+            }
+            return total == expectedTotal;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    // 지금까지 반영된 이체 수
+    public long transfers() {
+        return sequence.get();
+    }
+
+    public boolean isJournaled() {
+        return journal != null;
+    }
+
+    // 반영 순서대로의 저널 사본
+    public List<Transfer> journal() {
+        if (journal == null) {
+            throw new IllegalStateException("저널을 켜지 않은 원장입니다. PointLedger.journaled()로 만드세요.");
+        }
+        List<Transfer> transfers = new ArrayList<>(journal);
+        transfers.sort((a, b) -> Long.compare(a.sequence(), b.sequence()));
+        return transfers;
+    }
+
+    /**
+     * 저널의 이체를 순서대로 다시 적용한다. resolve는 닉네임으로 적용할 플레이어를 찾는다.
+     */
+    public void replay(Function<String, Player> resolve) {
+        for (Transfer transfer : journal()) {
+            for (int i = 0; i < transfer.size(); i++) {
+                Player player = Objects.requireNonNull(resolve.apply(transfer.parties()[i]),
+                        "저널의 플레이어를 찾을 수 없습니다: " + transfer.parties()[i]);
+                apply(player, transfer.amounts()[i], transfer.outcomes()[i]);
+            }
+        }
+    }
+
+    private static final class Scratch {
+        int[] amounts = new int[0];
+        Outcome[] outcomes = new Outcome[0];
+        int[] locked = new int[0];
+
+        // 참가자 n명을 담을 수 있게 늘린다
+        Scratch fit(int n) {
+            if (amounts.length < n) {
+                amounts = new int[n];
+                outcomes = new Outcome[n];
+                locked = new int[n];
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package ledger;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 저널에 남는 이체 한 건. 참가자별 포인트 변화와 승패를 닉네임으로 기록하고, 변화량의 합은 항상 0이다.
+ * sequence는 원장 안에서 이체가 반영된 순서다.
+ */
+public record Transfer(long sequence, long matchId, String[] parties, int[] amounts, Outcome[] outcomes) {
+
+    public Transfer {
+        Objects.requireNonNull(parties, "참가자는 null일 수 없습니다.");
+        if (parties.length != amounts.length || parties.length != outcomes.length) {
+            throw new IllegalArgumentException("참가자, 포인트, 승패의 수가 같아야 합니다.");
+        }
+        if (Arrays.stream(amounts).asLongStream().sum() != 0) {
+            throw new IllegalArgumentException("이체의 포인트 합은 0이어야 합니다: " + Arrays.toString(amounts));
+        }
+    }
+
+    public int size() {
+        return parties.length;
+    }
+}
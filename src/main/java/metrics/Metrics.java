@@ -0,0 +1,175 @@
+package metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 딜러 진행 단계와 매치당 핸드 평가 구간의 지연 시간 계측. 핸드 한 장의 평가·비교처럼 계측보다 짧은 연산은 재지 않는다.
+ * <p>
+ * 호출은 표본 간격(기본 {@value #DEFAULT_SAMPLE_INTERVAL})번에 한 번꼴로 무작위로 골라 시간을 재고, 호출 수도
+ * 고른 호출마다 간격만큼 더해 추정한다. 고르지 않은 호출은 스레드 로컬 난수 하나만 뽑으므로 공유 카운터를 건드리지 않고,
+ * 잰 호출의 {@link System#nanoTime()} 두 번도 전체로는 희석되어 켜 둔 채로 운영해도 된다.
+ * 간격을 1로 두면 모든 호출을 재고 정확히 센다. 시스템 속성 {@code pokerhole.metrics=false}로 꺼진 채 시작할 수 있고,
+ * {@code pokerhole.metrics.sampleInterval}로 간격을 정한다. 진입점이 {@link #registerMBean()}을 부르면
+ * 둘 다 JMX로 바꿀 수 있다. 라이브러리로 쓸 때는 플랫폼 MBean 서버를 건드리지 않는다.
+ * <pre>
+ * long start = Metrics.start(Phase.SHUFFLE);
+ * ... 
+ * Metrics.stop(Phase.SHUFFLE, start);
+ * </pre>
+ */
+public final class Metrics {
+
+    public static final String OBJECT_NAME = "pokerhole:type=Metrics";
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    // 시간을 재지 않는 호출의 시작 값
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+    private static final Phase[] PHASES = Phase.values();
+    private static final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private static final LongAdder[] calls = new LongAdder[PHASES.length];
+
+    private static volatile boolean enabled = !"false".equalsIgnoreCase(System.getProperty("pokerhole.metrics"));
+    private static final AtomicBoolean registered = new AtomicBoolean();
+
+    private static volatile int sampleMask = checkInterval(Integer.getInteger("pokerhole.metrics.sampleInterval", DEFAULT_SAMPLE_INTERVAL)) - 1;
+
+    static {
+        for (int i = 0; i < PHASES.length; i++) {
+            histograms[i] = new LatencyHistogram();
+            calls[i] = new LongAdder();
+        }
+    }
+
+    private Metrics() {
+    }
+
+    // 구간 시작. 꺼져 있거나 이번 호출을 재지 않으면 시계를 읽지 않는다
+    public static long start(Phase phase) {
+        if (!enabled) {
+            return NOT_SAMPLED;
+        }
+        int mask = sampleMask;
+        if (mask != 0 && (ThreadLocalRandom.current().nextInt() & mask) != 0) {
+            return NOT_SAMPLED;
+        }
+        calls[phase.ordinal()].add(mask + 1);
+        return System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start != NOT_SAMPLED) {
+            histograms[phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    public static int getSampleInterval() {
+        return sampleMask + 1;
+    }
+
+    // 몇 번에 한 번 잴지. 2의 거듭제곱이어야 한다
+    public static void setSampleInterval(int interval) {
+        sampleMask = checkInterval(interval) - 1;
+    }
+
+    private static int checkInterval(int interval) {
+        if (interval <= 0 || Integer.bitCount(interval) != 1) {
+            throw new IllegalArgumentException("표본 간격은 2의 거듭제곱이어야 합니다: " + interval);
+        }
+        return interval;
+    }
+
+    public static PhaseStats snapshot(Phase phase) {
+        LatencyHistogram histogram = histograms[phase.ordinal()];
+        return new PhaseStats(phase, calls[phase.ordinal()].sum(), histogram.counts(), histogram.totalNanos(), histogram.maxNanos());
+    }
+
+    public static Map<Phase, PhaseStats> snapshot() {
+        Map<Phase, PhaseStats> stats = new EnumMap<>(Phase.class);
+        for (Phase phase : PHASES) {
+            stats.put(phase, snapshot(phase));
+        }
+        return stats;
+    }
+
+    public static void reset() {
+        for (int i = 0; i < PHASES.length; i++) {
+            histograms[i].reset();
+            calls[i].reset();
+        }
+    }
+
+    /**
+     * 계측을 {@value #OBJECT_NAME} 이름의 플랫폼 MBean으로 노출한다. 여러 번 불러도 한 번만 등록한다.
+     * 등록되어 있으면 true, JMX를 쓸 수 없는 환경이면 false를 돌려준다. 등록하지 않아도 계측과 스냅샷 API는 동작한다.
+     */
+    public static boolean registerMBean() {
+        if (registered.get()) {
+            return true;
+        }
+        synchronized (registered) {
+            if (registered.get()) {
+                return true;
+            }
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), new ObjectName(OBJECT_NAME));
+            } catch (InstanceAlreadyExistsException e) {
+                // 다른 클래스 로더가 이미 등록함
+            } catch (JMException | SecurityException e) {
+                return false;
+            }
+            registered.set(true);
+            return true;
+        }
+    }
+
+    private static final class Bean implements MetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return Metrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            Metrics.setEnabled(enabled);
+        }
+
+        @Override
+        public int getSampleInterval() {
+            return Metrics.getSampleInterval();
+        }
+
+        @Override
+        public void setSampleInterval(int interval) {
+            Metrics.setSampleInterval(interval);
+        }
+
+        @Override
+        public List<PhaseStats> getPhases() {
+            return new ArrayList<>(snapshot().values());
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package metrics;
+
+import java.util.List;
+
+/**
+ * 플랫폼 MBean 서버에 {@value Metrics#OBJECT_NAME} 이름으로 등록되는 관리 인터페이스.
+ */
+public interface MetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    // 몇 번에 한 번 시간을 재는지
+    int getSampleInterval();
+
+    void setSampleInterval(int interval);
+
+    List<PhaseStats> getPhases();
+
+    void reset();
+}
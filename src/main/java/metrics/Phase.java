@@ -0,0 +1,18 @@
+package metrics;
+
+/**
+ * 지연 시간을 재는 구간.
+ */
+public enum Phase {
+    NEW_GAME,
+    SHUFFLE,
+    DEAL_CARD,
+    HAND_OPEN,
+    RETRIEVE_CARD,
+    // Dealer.handOpen() 안에서 좌석 전원의 패를 평가하는 구간 (매치당 한 번)
+    HAND_EVALUATE,
+    // HoldemDealer.dealHoleCards() 한 번 (셔플과 홀 카드 배분)
+    HOLDEM_DEAL,
+    // HoldemDealer.showdown() 한 번 (7장 평가와 정산)
+    HOLDEM_SHOWDOWN
+}
@@ -0,0 +1,89 @@
+package metrics;
+
+/**
+ * 한 구간의 통계 스냅샷. calls는 표본으로 추정한 전체 호출 수(표본 간격이 1이면 정확한 값), samples는 시간을 잰 호출 수이고
+ * 지연 시간 값은 모두 나노초이며 백분위는 해당 버킷의 상한이다.
+ */
+public final class PhaseStats {
+
+    private final Phase phase;
+    private final long calls;
+    private final long[] buckets;
+    private final long samples;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    PhaseStats(Phase phase, long calls, long[] buckets, long totalNanos, long maxNanos) {
+        this.phase = phase;
+        this.calls = calls;
+        this.buckets = buckets;
+        long samples = 0;
+        for (long count : buckets) {
+            samples += count;
+        }
+        this.samples = samples;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String getPhase() {
+        return phase.name();
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public double getMeanNanos() {
+        return samples == 0 ? 0 : (double) totalNanos / samples;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return percentile(50);
+    }
+
+    public long getP90Nanos() {
+        return percentile(90);
+    }
+
+    public long getP99Nanos() {
+        return percentile(99);
+    }
+
+    public long getP999Nanos() {
+        return percentile(99.9);
+    }
+
+    // percent(0~100) 백분위 지연 시간
+    public long percentile(double percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("백분위는 0부터 100 사이여야 합니다: " + percent);
+        }
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(samples * percent / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBound(bucket), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s calls=%d samples=%d mean=%.0fns p50=%dns p99=%dns max=%dns",
+                phase, calls, samples, getMeanNanos(), getP50Nanos(), getP99Nanos(), maxNanos);
+    }
+}
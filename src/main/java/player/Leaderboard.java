@@ -0,0 +1,265 @@
+package player;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 스테이지 순위표. 포인트가 높을수록, 같으면 승이 많을수록, 같으면 패가 적을수록, 그래도 같으면 먼저 들어온 플레이어가 앞선다.
+ * <p>
+ * 서브트리 크기를 덧붙인 트립(treap)이다. 플레이어의 포인트나 전적이 바뀌면 표시만 해 두고, 다음 조회 때
+ * 바뀐 플레이어의 노드만 빼서 다시 넣는다. 그래서 정산 한 번에 여러 번 바뀌어도 재배치는 한 번이고,
+ * 1위와 순위 조회는 O(log n), 상위 K명은 O(log n + K)이며 조회할 때 전체를 정렬하지 않는다.
+ * 바뀌었다는 표시는 어느 스레드에서 와도 되지만(여러 테이블이 한 플레이어의 결과를 동시에 반영하는 경우),
+ * 등록·제거와 조회는 한 스레드에서 해야 한다.
+ */
+public final class Leaderboard {
+
+    private static final VarHandle CHANGED;
+
+    static {
+        try {
+            CHANGED = MethodHandles.lookup().findVarHandle(Node.class, "changed", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Queue<Node> changed = new ConcurrentLinkedQueue<>();
+    private Node root;
+    private long sequence;
+
+    public void add(Player player) {
+        Objects.requireNonNull(player, "플레이어는 null일 수 없습니다.");
+        if (player.rankingIn(this) != null) {
+            throw new IllegalArgumentException("이미 순위표에 있는 플레이어입니다: " + player.getNickName());
+        }
+        Node node = new Node(this, player, sequence++);
+        root = insert(root, node);
+        player.joinRanking(node);
+    }
+
+    public boolean remove(Player player) {
+        Node node = player.rankingIn(this);
+        if (node == null) {
+            return false;
+        }
+        reposition();
+        root = delete(root, node);
+        node.removed = true;
+        player.leaveRanking(node);
+        return true;
+    }
+
+    // 플레이어의 순위 키가 바뀌었을 때 Player가 호출한다
+    void touch(Node node) {
+        if (!node.changed && CHANGED.compareAndSet(node, false, true)) {
+            changed.add(node);
+        }
+    }
+
+    // 표시해 둔 플레이어만 제자리로 옮긴다. 표시를 먼저 지우므로 그 뒤의 변화는 다시 표시된다
+    private void reposition() {
+        Node node;
+        while ((node = changed.poll()) != null) {
+            node.changed = false;
+            if (!node.removed && !node.isCurrent()) {
+                root = delete(root, node);
+                node.reset();
+                root = insert(root, node);
+            }
+        }
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public Optional<Player> winner() {
+        reposition();
+        Node node = root;
+        if (node == null) {
+            return Optional.empty();
+        }
+        while (node.left != null) {
+            node = node.left;
+        }
+        return Optional.of(node.player);
+    }
+
+    // 1위부터 최대 k명
+    public List<Player> top(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("조회할 인원은 0 이상이어야 합니다: " + k);
+        }
+        reposition();
+        List<Player> ranking = new ArrayList<>(Math.min(k, size()));
+        collect(root, ranking, k);
+        return ranking;
+    }
+
+    // 1부터 시작하는 순위
+    public int rankOf(Player player) {
+        Node node = player.rankingIn(this);
+        if (node == null) {
+            throw new IllegalArgumentException("순위표에 없는 플레이어입니다: " + player.getNickName());
+        }
+        reposition();
+        int rank = 0;
+        Node current = root;
+        while (current != node) {
+            if (node.isBefore(current)) {
+                current = current.left;
+            } else {
+                rank += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return rank + size(node.left) + 1;
+    }
+
+    private static void collect(Node node, List<Player> ranking, int k) {
+        if (node == null || ranking.size() == k) {
+            return;
+        }
+        collect(node.left, ranking, k);
+        if (ranking.size() < k) {
+            ranking.add(node.player);
+            collect(node.right, ranking, k);
+        }
+    }
+
+    private static Node insert(Node tree, Node node) {
+        if (tree == null) {
+            return node;
+        }
+        if (node.isBefore(tree)) {
+            tree.left = insert(tree.left, node);
+            if (tree.left.priority > tree.priority) {
+                tree = rotateRight(tree);
+            }
+        } else {
+            tree.right = insert(tree.right, node);
+            if (tree.right.priority > tree.priority) {
+                tree = rotateLeft(tree);
+            }
+        }
+        tree.resize();
+        return tree;
+    }
+
+    private static Node delete(Node tree, Node node) {
+        if (tree == node) {
+            return join(tree.left, tree.right);
+        }
+        if (node.isBefore(tree)) {
+            tree.left = delete(tree.left, node);
+        } else {
+            tree.right = delete(tree.right, node);
+        }
+        tree.resize();
+        return tree;
+    }
+
+    // left의 모든 노드가 right보다 앞선다
+    private static Node join(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = join(left.right, right);
+            left.resize();
+            return left;
+        }
+        right.left = join(left, right.left);
+        right.resize();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.resize();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.resize();
+        return pivot;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * 순위표 안의 플레이어 한 명. 트리 안에서의 위치는 마지막으로 반영한 키(point, wins, losses)로 정해진다.
+     */
+    static final class Node {
+        final Leaderboard board;
+        final Player player;
+        private final long sequence;
+        private final long priority;
+        private int point;
+        private int wins;
+        private int losses;
+        private Node left;
+        private Node right;
+        private int size;
+        private volatile boolean changed;
+        private boolean removed;
+
+        private Node(Leaderboard board, Player player, long sequence) {
+            this.board = board;
+            this.player = player;
+            this.sequence = sequence;
+            this.priority = mix(sequence);
+            reset();
+        }
+
+        private void reset() {
+            PlayerRecord record = player.getRecord();
+            point = record.point();
+            wins = record.wins();
+            losses = record.losses();
+            left = null;
+            right = null;
+            size = 1;
+        }
+
+        private boolean isCurrent() {
+            PlayerRecord record = player.getRecord();
+            return point == record.point() && wins == record.wins() && losses == record.losses();
+        }
+
+        private boolean isBefore(Node other) {
+            if (point != other.point) return point > other.point;
+            if (wins != other.wins) return wins > other.wins;
+            if (losses != other.losses) return losses < other.losses;
+            return sequence < other.sequence;
+        }
+
+        private void resize() {
+            size = 1 + Leaderboard.size(left) + Leaderboard.size(right);
+        }
+
+        // 입장 순서를 섞어 트립 우선순위로 쓴다 (SplitMix64)
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package player;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 닉네임 중복을 막는 이름 공간. 테이블이나 토너먼트마다 따로 만들 수 있고,
+ * {@link Player#newPlayer(String)}는 JVM 전체가 함께 쓰는 {@link #global()}을 쓴다.
+ * <p>
+ * 이름 선점은 {@link ConcurrentHashMap#putIfAbsent}라 여러 스레드가 동시에 만들어도 하나의 락을 두고 다투지 않는다.
+ * 이름은 {@link Player#unregister()}를 부르거나 플레이어가 가비지 컬렉션되면 반납된다. 반납은 등록 건마다의 토큰으로
+ * 확인하므로, 이미 반납된 이름을 다른 플레이어가 다시 쓴 뒤 늦게 도착한 정리 작업이 새 등록을 지우는 일은 없다.
+ */
+public final class NicknameRegistry {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final NicknameRegistry GLOBAL = new NicknameRegistry();
+
+    private final ConcurrentHashMap<String, Registration> names = new ConcurrentHashMap<>();
+
+    private NicknameRegistry() {
+    }
+
+    public static NicknameRegistry global() {
+        return GLOBAL;
+    }
+
+    public static NicknameRegistry newRegistry() {
+        return new NicknameRegistry();
+    }
+
+    public boolean contains(String nickName) {
+        return names.containsKey(nickName);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    // 이름을 선점한다. 이미 쓰는 중이면 null
+    Registration claim(String nickName) {
+        Registration registration = new Registration(this, nickName);
+        return names.putIfAbsent(nickName, registration) == null ? registration : null;
+    }
+
+    /**
+     * 선점한 이름 하나. 플레이어가 수거되면 {@link Cleaner}가, 명시적으로 풀면 {@link #release()}가 한 번만 반납한다.
+     * 정리 작업이 플레이어를 붙잡지 않도록 플레이어를 참조하지 않는다.
+     */
+    static final class Registration implements Runnable {
+
+        private final NicknameRegistry registry;
+        private final String nickName;
+        private Cleaner.Cleanable cleanable;
+
+        private Registration(NicknameRegistry registry, String nickName) {
+            this.registry = registry;
+            this.nickName = nickName;
+        }
+
+        void bind(Player player) {
+            cleanable = CLEANER.register(player, this);
+        }
+
+        void release() {
+            cleanable.clean();
+        }
+
+        @Override
+        public void run() {
+            registry.names.remove(nickName, this);
+        }
+    }
+}
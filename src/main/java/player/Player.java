@@ -0,0 +1,178 @@
+package player;
+
+import common.Card;
+import common.Hand;
+
+import java.util.Arrays;
+
+public class Player {
+
+    public static final int MAX_NICKNAME_LENGTH = 20;
+    public static final int INITIAL_POINT = 10_000;
+
+    private static final Leaderboard.Node[] NO_RANKINGS = {};
+
+    private final String nickName;
+    private final Hand hand = new Hand();
+    private final PlayerStats stats = new PlayerStats(INITIAL_POINT);
+    // 이 플레이어가 올라가 있는 순위표들. 보통 테이블 하나, 많아야 몇 개뿐이라 배열로 충분하다
+    private Leaderboard.Node[] rankings = NO_RANKINGS;
+    // 닉네임 선점 기록. 대리 플레이어는 null
+    private NicknameRegistry.Registration registration;
+
+    private Player(String nickName) {
+        this.nickName = nickName;
+    }
+
+    public static Player newPlayer(String nickName) {
+        return newPlayer(nickName, NicknameRegistry.global());
+    }
+
+    // 테이블·토너먼트 같은 이름 공간 안에서만 닉네임이 겹치지 않으면 된다
+    public static Player newPlayer(String nickName, NicknameRegistry registry) {
+        if (nickName == null || nickName.isBlank()) {
+            throw new IllegalArgumentException("닉네임은 비어 있을 수 없습니다.");
+        }
+        if (nickName.length() > MAX_NICKNAME_LENGTH) {
+            throw new IllegalArgumentException("닉네임은 " + MAX_NICKNAME_LENGTH + "자 이하여야 합니다: " + nickName);
+        }
+        NicknameRegistry.Registration registration = registry.claim(nickName);
+        if (registration == null) {
+            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다: " + nickName);
+        }
+        Player player = new Player(nickName);
+        player.registration = registration;
+        registration.bind(player);
+        return player;
+    }
+
+    // 닉네임을 반납해 다른 플레이어가 쓸 수 있게 한다. 여러 번 불러도 된다
+    public void unregister() {
+        if (registration != null) {
+            registration.release();
+        }
+    }
+
+    // 플레이어가 수거되면 Cleaner가 부를 반납 작업. 대리 플레이어는 null
+    Runnable cleanupAction() {
+        return registration;
+    }
+
+    /**
+     * 같은 닉네임으로 초기 포인트·무전적에서 시작하는 대리 플레이어. 닉네임 등록을 거치지 않으므로
+     * 병렬 테이블처럼 한 플레이어가 여러 곳에 동시에 앉아야 할 때 쓰고, 결과는 {@link #merge(PlayerRecord)}로 합친다.
+     */
+    public Player standIn() {
+        return new Player(nickName);
+    }
+
+    public String getNickName() {
+        return nickName;
+    }
+
+    public int getPoint() {
+        return stats.snapshot().point();
+    }
+
+    public int getWins() {
+        return stats.snapshot().wins();
+    }
+
+    public int getLosses() {
+        return stats.snapshot().losses();
+    }
+
+    public int getDraws() {
+        return stats.snapshot().draws();
+    }
+
+    public Hand getHand() {
+        return hand;
+    }
+
+    public void receiveCard(Card card) {
+        hand.add(card);
+    }
+
+    public Hand openHand() {
+        return hand.open();
+    }
+
+    public void clearHand() {
+        hand.clear();
+    }
+
+    public void prizePoint(int point) {
+        settle(point, 0, 0, 0);
+    }
+
+    public void win() {
+        settle(0, 1, 0, 0);
+    }
+
+    public void lose() {
+        settle(0, 0, 1, 0);
+    }
+
+    public void draw() {
+        settle(0, 0, 0, 1);
+    }
+
+    /**
+     * 포인트와 전적 변화를 한 번에 반영한다. 여러 스레드가 동시에 불러도 갱신을 잃지 않고,
+     * {@link #getRecord()}에는 이 변화가 통째로 보이거나 전혀 보이지 않는다.
+     */
+    public void settle(int point, int wins, int losses, int draws) {
+        stats.add(point, wins, losses, draws);
+        // 무승부 수만 바뀌면 순위는 그대로다
+        if (point != 0 || wins != 0 || losses != 0) {
+            rerank();
+        }
+    }
+
+    // 포인트와 전적의 일관된 스냅샷
+    public PlayerRecord getRecord() {
+        return stats.snapshot();
+    }
+
+    // 다른 테이블에서 쌓인 변화량을 한 번에 반영한다
+    public void merge(PlayerRecord delta) {
+        settle(delta.point(), delta.wins(), delta.losses(), delta.draws());
+    }
+
+    private void rerank() {
+        for (Leaderboard.Node ranking : rankings) {
+            ranking.board.touch(ranking);
+        }
+    }
+
+    Leaderboard.Node rankingIn(Leaderboard board) {
+        for (Leaderboard.Node ranking : rankings) {
+            if (ranking.board == board) {
+                return ranking;
+            }
+        }
+        return null;
+    }
+
+    void joinRanking(Leaderboard.Node ranking) {
+        rankings = Arrays.copyOf(rankings, rankings.length + 1);
+        rankings[rankings.length - 1] = ranking;
+    }
+
+    void leaveRanking(Leaderboard.Node ranking) {
+        Leaderboard.Node[] remaining = new Leaderboard.Node[rankings.length - 1];
+        int i = 0;
+        for (Leaderboard.Node r : rankings) {
+            if (r != ranking) {
+                remaining[i++] = r;
+            }
+        }
+        rankings = remaining;
+    }
+
+    @Override
+    public String toString() {
+        return nickName;
+    }
+}
@@ -0,0 +1,21 @@
+package player;
+
+/**
+ * 플레이어의 포인트와 전적 묶음. 스냅샷이나 다른 테이블에서 쌓인 변화량(delta)을 나타낸다.
+ */
+public record PlayerRecord(int point, int wins, int losses, int draws) {
+
+    public static final PlayerRecord EMPTY = new PlayerRecord(0, 0, 0, 0);
+
+    public PlayerRecord plus(PlayerRecord other) {
+        return new PlayerRecord(point + other.point, wins + other.wins, losses + other.losses, draws + other.draws);
+    }
+
+    public PlayerRecord minus(PlayerRecord other) {
+        return new PlayerRecord(point - other.point, wins - other.wins, losses - other.losses, draws - other.draws);
+    }
+
+    public int matches() {
+        return wins + losses + draws;
+    }
+}
@@ -0,0 +1,121 @@
+package player;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 한 플레이어의 포인트와 전적 카운터. 여러 테이블 스레드가 동시에 갱신해도 잃어버리는 갱신이 없다.
+ * <p>
+ * {@link java.util.concurrent.atomic.LongAdder}처럼 처음에는 셀 하나로 시작하고, 셀을 차지하려다 다른 스레드와
+ * 부딪히면 셀을 늘려 스레드마다 다른 셀(서로 다른 캐시 라인)에 쌓이게 한다. 값은 읽을 때 모든 셀을 더한다.
+ * 셀은 버전 번호로 보호되는 네 값 묶음이라 한 번의 갱신(포인트와 승패를 함께)이 반쯤만 보이는 일이 없고,
+ * {@link #snapshot()}은 각 셀을 버전이 바뀌지 않은 상태로 읽어 더한다.
+ */
+final class PlayerStats {
+
+    private static final VarHandle VERSION;
+    private static final VarHandle CELLS;
+    private static final int MAX_CELLS = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VERSION = lookup.findVarHandle(CellFields.class, "version", long.class);
+            CELLS = lookup.findVarHandle(PlayerStats.class, "cells", Cell[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Cell[] cells;
+
+    PlayerStats(int initialPoint) {
+        Cell cell = new Cell();
+        cell.point = initialPoint;
+        cells = new Cell[]{cell};
+    }
+
+    void add(int point, int wins, int losses, int draws) {
+        Cell[] current = cells;
+        Cell cell = current.length == 1 ? current[0] : current[probe() & (current.length - 1)];
+        long version = (long) VERSION.getOpaque(cell);
+        while ((version & 1) != 0 || !VERSION.weakCompareAndSetAcquire(cell, version, version + 1)) {
+            // 다른 스레드가 같은 셀을 쓰는 중: 셀을 늘려 다음부터는 피해 간다
+            current = grow(current);
+            cell = current[probe() & (current.length - 1)];
+            version = (long) VERSION.getOpaque(cell);
+        }
+        // 홀수 버전이 값보다 먼저 보이도록
+        VarHandle.storeStoreFence();
+        cell.point += point;
+        cell.wins += wins;
+        cell.losses += losses;
+        cell.draws += draws;
+        VERSION.setRelease(cell, version + 2);
+    }
+
+    PlayerRecord snapshot() {
+        long point = 0;
+        int wins = 0;
+        int losses = 0;
+        int draws = 0;
+        for (Cell cell : cells) {
+            while (true) {
+                long version = (long) VERSION.getAcquire(cell);
+                long p = cell.point;
+                int w = cell.wins;
+                int l = cell.losses;
+                int d = cell.draws;
+                VarHandle.loadLoadFence();
+                if ((version & 1) == 0 && version == (long) VERSION.getOpaque(cell)) {
+                    point += p;
+                    wins += w;
+                    losses += l;
+                    draws += d;
+                    break;
+                }
+                Thread.onSpinWait();
+            }
+        }
+        return new PlayerRecord((int) point, wins, losses, draws);
+    }
+
+    private Cell[] grow(Cell[] current) {
+        if (current.length < MAX_CELLS) {
+            Cell[] grown = new Cell[current.length * 2];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = new Cell();
+            }
+            if (CELLS.compareAndSet(this, current, grown)) {
+                return grown;
+            }
+        } else {
+            Thread.onSpinWait();
+        }
+        return cells;
+    }
+
+    // 스레드마다 고정된 셀 번호
+    private static int probe() {
+        int h = System.identityHashCode(Thread.currentThread()) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // 앞뒤로 캐시 라인 하나씩을 채워 이웃 셀과 같은 라인에 놓이지 않게 한다
+    private static class CellPadding {
+        long p0, p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class CellFields extends CellPadding {
+        volatile long version; // 홀수면 쓰는 중
+        long point;
+        int wins;
+        int losses;
+        int draws;
+    }
+
+    private static final class Cell extends CellFields {
+        long q0, q1, q2, q3, q4, q5, q6, q7;
+    }
+}
@@ -0,0 +1,120 @@
+import dealer.Dealer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.Player;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PokerHole 헤드리스 시뮬레이션 모드 검증 테스트
+ */
+class PokerHoleTest {
+
+    // "…님의 포인트 N점, 전적 ✅ N승 ❌ N패 🤝 N무"
+    private static final Pattern STANDING = Pattern.compile("(봇\\d+)님의 포인트 (-?\\d+)점, 전적 ✅ (\\d+)승 ❌ (\\d+)패 🤝 (\\d+)무");
+
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private PrintStream original;
+
+    @BeforeEach
+    void captureOut() {
+        original = System.out;
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void restoreOut() {
+        System.setOut(original);
+    }
+
+    // 출력을 비우고 헤드리스 모드를 한 번 돌린 뒤 그 출력을 돌려준다
+    private String runHeadless(int matches, int players, long seed, int workers) {
+        captured.reset();
+        PokerHole.runHeadless(matches, players, seed, workers);
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+
+    // 스테이지 결과의 순위 줄만 모은다. 처리량 줄은 실행마다 달라 뺀다
+    private static List<String> standings(String output) {
+        return output.lines().filter(line -> STANDING.matcher(line).find()).toList();
+    }
+
+    @Nested
+    @DisplayName("시뮬레이션")
+    class Simulation {
+        @Test
+        @DisplayName("처리량 한 줄과 전원의 스테이지 결과만 출력")
+        void shouldPrintThroughputAndStandings() {
+            String output = runHeadless(500, 4, 7L, 1);
+            assertTrue(output.contains("⏱️ 500판"), "처리량 줄에 매치 수가 있어야 합니다.");
+            assertTrue(output.contains("🔔 스테이지 결과:"));
+            assertFalse(output.contains("카드를 섞었습니다."), "헤드리스 모드는 매치마다 중계하지 않아야 합니다.");
+
+            List<String> standings = standings(output);
+            assertEquals(4, standings.size(), "플레이어마다 순위 줄이 하나씩 있어야 합니다.");
+            for (String line : standings) {
+                Matcher matcher = STANDING.matcher(line);
+                assertTrue(matcher.find());
+                int played = Integer.parseInt(matcher.group(3)) + Integer.parseInt(matcher.group(4)) + Integer.parseInt(matcher.group(5));
+                assertEquals(500, played, matcher.group(1) + "의 전적 합이 매치 수와 같아야 합니다.");
+            }
+        }
+
+        @Test
+        @DisplayName("같은 시드면 같은 결과 (연달아 실행해도 이름이 겹치지 않음)")
+        void shouldRepeatWithSameSeed() {
+            List<String> first = standings(runHeadless(300, 3, 42L, 1));
+            List<String> second = standings(runHeadless(300, 3, 42L, 1));
+            assertEquals(3, first.size());
+            assertEquals(first, second);
+        }
+
+        @Test
+        @DisplayName("워커를 나눠도 모든 매치를 진행")
+        void shouldPlayEveryMatchWithWorkers() {
+            List<String> standings = standings(runHeadless(1_000, 4, 3L, 4));
+            assertEquals(4, standings.size());
+            int points = 0;
+            for (String line : standings) {
+                Matcher matcher = STANDING.matcher(line);
+                assertTrue(matcher.find());
+                points += Integer.parseInt(matcher.group(2));
+                int played = Integer.parseInt(matcher.group(3)) + Integer.parseInt(matcher.group(4)) + Integer.parseInt(matcher.group(5));
+                assertEquals(1_000, played);
+            }
+            assertEquals(4 * Player.INITIAL_POINT, points, "판돈은 플레이어 사이에서만 오가야 합니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("인자 검증")
+    class Arguments {
+        @Test
+        @DisplayName("매치 수와 플레이어 수 범위를 벗어나면 거부")
+        void shouldRejectOutOfRange() {
+            assertThrows(IllegalArgumentException.class, () -> PokerHole.runHeadless(0, 4, 1L, 1));
+            assertThrows(IllegalArgumentException.class, () -> PokerHole.runHeadless(10, Dealer.MIN_PLAYER - 1, 1L, 1));
+            assertThrows(IllegalArgumentException.class, () -> PokerHole.runHeadless(10, Dealer.MAX_PLAYER + 1, 1L, 1));
+            assertEquals("", captured.toString(StandardCharsets.UTF_8), "거부한 실행은 아무것도 출력하지 않아야 합니다.");
+        }
+
+        @Test
+        @DisplayName("headless 인자 수가 틀리면 사용법으로 거부")
+        void shouldRejectWrongArgumentCount() {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> PokerHole.main(new String[]{"headless", "10"}));
+            assertTrue(e.getMessage().startsWith("사용법: PokerHole headless"));
+            assertThrows(NumberFormatException.class, () -> PokerHole.main(new String[]{"headless", "열", "4", "1"}));
+        }
+    }
+}
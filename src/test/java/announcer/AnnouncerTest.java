@@ -0,0 +1,159 @@
+package announcer;
+
+import dealer.Dealer;
+import dealer.SeedPolicy;
+import event.EventBus;
+import event.MatchEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.Player;
+import player.PlayerRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Announcer 상세도별 출력과 버퍼 내보내기 검증 테스트
+ */
+class AnnouncerTest {
+
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private PrintStream original;
+
+    @BeforeEach
+    void captureOut() {
+        Announcer.flush();
+        original = System.out;
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void restoreOut() {
+        Announcer.flush();
+        System.setOut(original);
+    }
+
+    private String output() {
+        return captured.toString(StandardCharsets.UTF_8);
+    }
+
+    private static long count(String text, String token) {
+        return text.lines().filter(line -> line.contains(token)).count();
+    }
+
+    // 딜러 한 명이 matches판을 진행하며 발행한 이벤트를 주어진 상세도로 중계한다
+    private static void playStage(Verbosity verbosity, int matches) {
+        Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(11));
+        try (EventBus eventBus = EventBus.newEventBus()) {
+            eventBus.subscribe("announcer", new Announcer(verbosity, matches));
+            dealer.publishTo(eventBus);
+            for (int i = 0; i < 3; i++) {
+                dealer.enrollPlayer(Player.newPlayer("AN" + i + UUID.randomUUID().toString().substring(0, 6)));
+            }
+            for (int i = 0; i < matches; i++) {
+                dealer.newGame();
+                dealer.shuffle();
+                dealer.dealCard();
+                dealer.handOpen();
+                dealer.retrieveCard();
+            }
+            dealer.endStage();
+        }
+    }
+
+    @Nested
+    @DisplayName("상세도")
+    class Levels {
+        @Test
+        @DisplayName("FULL은 입장부터 매치 단계와 스테이지 결과까지 모두 출력")
+        void shouldAnnounceEveryStepInFull() {
+            playStage(Verbosity.FULL, 5);
+            String text = output();
+            assertEquals(3, count(text, "입장하셨습니다."));
+            assertEquals(1, count(text, "💀 포커 5판 진행 💀"), "진행 안내는 스테이지마다 한 번만 나와야 합니다.");
+            assertEquals(5, count(text, "🔄 카드를 섞었습니다."));
+            assertEquals(5, count(text, "🃏 카드를 나눠주었습니다."));
+            assertEquals(5, count(text, "🔍 매치 결과:"));
+            assertEquals(15, count(text, "님의 패: "), "매치마다 좌석 수만큼 패를 출력해야 합니다.");
+            assertEquals(5, count(text, "🛑 매치가 종료되었습니다."));
+            assertEquals(1, count(text, "🔔 스테이지 결과:"));
+        }
+
+        @Test
+        @DisplayName("SUMMARY는 매치마다 한 줄과 스테이지 결과만 출력")
+        void shouldPrintOneLinePerMatchInSummary() {
+            playStage(Verbosity.SUMMARY, 5);
+            String text = output();
+            for (int match = 1; match <= 5; match++) {
+                assertEquals(1, count(text, "🎲 #" + match + " "), match + "번째 매치 요약이 한 줄 있어야 합니다.");
+            }
+            assertEquals(0, count(text, "님의 패: "));
+            assertEquals(0, count(text, "입장하셨습니다."));
+            assertEquals(1, count(text, "🔔 스테이지 결과:"));
+        }
+
+        @Test
+        @DisplayName("STAGE는 스테이지 결과만 출력")
+        void shouldPrintOnlyStageResultInStage() {
+            playStage(Verbosity.STAGE, 5);
+            String text = output();
+            assertEquals(0, count(text, "🎲"));
+            assertEquals(0, count(text, "🔄"));
+            assertEquals(1, count(text, "🛑 스테이지가 종료되었습니다."), "스테이지 종료 배너는 나와야 합니다.");
+            assertEquals(1, count(text, "🔔 스테이지 결과:"));
+            assertEquals(3, count(text, "님의 포인트"), "참가자 전원의 순위를 출력해야 합니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("버퍼")
+    class Buffering {
+        @Test
+        @DisplayName("정적 메서드 출력은 flush 전까지 버퍼에 남는다")
+        void shouldHoldOutputUntilFlush() {
+            Announcer.newGame();
+            Announcer.matchWinner("고니", "로열 스트레이트 플러시");
+            assertEquals("", output(), "flush 전에는 내보내지 않아야 합니다.");
+
+            Announcer.flush();
+            String text = output();
+            assertTrue(text.contains("✨ 새로운 매치를 시작합니다! ✨"));
+            assertTrue(text.contains("🏆 고니님이 로열 스트레이트 플러시로 승리하셨습니다!"));
+        }
+
+        @Test
+        @DisplayName("구독자는 이벤트 묶음을 처리한 뒤 스스로 내보낸다")
+        void shouldFlushAfterEachBatch() {
+            Announcer announcer = new Announcer(Verbosity.SUMMARY, 2);
+            announcer.onEvents(List.of(
+                    new MatchEvent.GameStarted(0),
+                    new MatchEvent.MatchSettled(0, null, 0L, 0)));
+            assertEquals(1, count(output(), "🎲 #1 🤝 무승부"), "묶음이 끝나면 flush 없이도 보여야 합니다.");
+
+            announcer.onEvents(List.of(new MatchEvent.StageEnded(List.of(
+                    new MatchEvent.StageEnded.Standing("고니", new PlayerRecord(1_100, 1, 0, 1))))));
+            String text = output();
+            assertTrue(text.contains("🎉 고니님이 최종 승리하셨습니다!"));
+            assertEquals(1, count(text, "🥇 고니님의 포인트 1100점"));
+        }
+
+        @Test
+        @DisplayName("System.setOut으로 바꾼 출력을 따른다")
+        void shouldFollowRedirectedOut() {
+            ByteArrayOutputStream other = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(other, true, StandardCharsets.UTF_8));
+            Announcer.draw();
+            Announcer.flush();
+            assertEquals("", output(), "이전 출력으로 내보내서는 안 됩니다.");
+            assertTrue(other.toString(StandardCharsets.UTF_8).contains("🤝 무승부입니다."));
+        }
+    }
+}
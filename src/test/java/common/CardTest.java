@@ -145,6 +145,26 @@ class CardTest {
         }
     }
 
+    @Nested
+    @DisplayName("플라이웨이트")
+    class Flyweight {
+        @Test
+        @DisplayName("Card.of는 같은 인스턴스를 재사용")
+        void shouldReturnCanonicalInstances() throws Exception {
+            Class<?> cardClass = loadCardClass();
+            Constructor<?> ctor = requireCtor(cardClass);
+            Method of = requireMethod(cardClass, "of", Suit.class, Rank.class);
+            Object a = of.invoke(null, Suit.SPADES, Rank.TEN);
+            Object b = of.invoke(null, Suit.SPADES, Rank.TEN);
+            Object made = newCard(cardClass, ctor, Suit.SPADES, Rank.TEN);
+            assertAll(
+                    () -> assertSame(a, b, "Card.of는 같은 무늬/랭크에 대해 같은 인스턴스를 반환해야 합니다."),
+                    () -> assertEquals(made, a, "Card.of 인스턴스는 생성자로 만든 카드와 동등해야 합니다."),
+                    () -> assertEquals("♠️10", a.toString(), "Card.of 인스턴스의 toString 포맷이 다릅니다.")
+            );
+        }
+    }
+
     @Nested
     @DisplayName("예외 처리")
     class ExceptionHandling {
@@ -0,0 +1,149 @@
+package common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandEvaluator 룩업 테이블 검증 테스트
+ * - 52장 중 5장의 모든 조합(2,598,960개)을 평가해 족보 분포와 강도 범위를 확인합니다.
+ * - 7장 평가는 모든 조합(133,784,560개)의 족보 분포와, 21가지 5장 조합을 모두 평가한 최댓값과의 일치를 확인합니다.
+ */
+class HandEvaluatorTest {
+
+    private static Card[] fullDeck() {
+        Card[] deck = new Card[52];
+        int i = 0;
+        for (Rank r : Rank.values()) {
+            for (Suit s : Suit.values()) {
+                deck[i++] = Card.of(s, r);
+            }
+        }
+        return deck;
+    }
+
+    @Nested
+    @DisplayName("전수 조사")
+    class Exhaustive {
+        @Test
+        @DisplayName("족보별 조합 수와 등가 클래스 수")
+        void shouldMatchKnownDistribution() {
+            Card[] deck = fullDeck();
+            Map<Tier, Integer> counts = new EnumMap<>(Tier.class);
+            boolean[] seen = new boolean[HandEvaluator.MAX_STRENGTH + 1];
+            for (int a = 0; a < 52; a++)
+                for (int b = a + 1; b < 52; b++)
+                    for (int c = b + 1; c < 52; c++)
+                        for (int d = c + 1; d < 52; d++)
+                            for (int e = d + 1; e < 52; e++) {
+                                Hand h = new Hand();
+                                h.add(deck[a]);
+                                h.add(deck[b]);
+                                h.add(deck[c]);
+                                h.add(deck[d]);
+                                h.add(deck[e]);
+                                h.open();
+                                seen[h.getStrength()] = true;
+                                counts.merge(h.getTier(), 1, Integer::sum);
+                            }
+
+            assertAll(
+                    () -> assertEquals(4, counts.get(Tier.ROYAL_FLUSH)),
+                    () -> assertEquals(36, counts.get(Tier.STRAIGHT_FLUSH)),
+                    () -> assertEquals(624, counts.get(Tier.FOUR_OF_A_KIND)),
+                    () -> assertEquals(3_744, counts.get(Tier.FULL_HOUSE)),
+                    () -> assertEquals(5_108, counts.get(Tier.FLUSH)),
+                    () -> assertEquals(10_200, counts.get(Tier.STRAIGHT)),
+                    () -> assertEquals(54_912, counts.get(Tier.THREE_OF_A_KIND)),
+                    () -> assertEquals(123_552, counts.get(Tier.TWO_PAIR)),
+                    () -> assertEquals(1_098_240, counts.get(Tier.ONE_PAIR)),
+                    () -> assertEquals(1_302_540, counts.get(Tier.HIGH_CARD))
+            );
+            for (int s = 1; s <= HandEvaluator.MAX_STRENGTH; s++) {
+                assertTrue(seen[s], "강도 " + s + "에 해당하는 핸드가 없습니다. 강도는 빈틈없이 연속이어야 합니다.");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("강도 순서")
+    class Ordering {
+        @Test
+        @DisplayName("족보가 높을수록 강도가 크다")
+        void shouldOrderStrengthByTier() {
+            Tier previous = HandEvaluator.tierOf(1);
+            for (int s = 2; s <= HandEvaluator.MAX_STRENGTH; s++) {
+                Tier tier = HandEvaluator.tierOf(s);
+                assertTrue(tier.compareTo(previous) >= 0, "강도 " + s + "의 족보가 이전 강도보다 낮습니다.");
+                previous = tier;
+            }
+            assertEquals(Tier.HIGH_CARD, HandEvaluator.tierOf(1));
+            assertEquals(Tier.ROYAL_FLUSH, HandEvaluator.tierOf(HandEvaluator.MAX_STRENGTH));
+        }
+    }
+
+    @Nested
+    @DisplayName("7장 평가")
+    class Seven {
+        // 21가지 5장 조합을 모두 평가하는 느린 기준값
+        private int bruteForce(long mask) {
+            int best = 0;
+            for (long a = mask; a != 0; a &= a - 1) {
+                for (long b = a & (a - 1); b != 0; b &= b - 1) {
+                    best = Math.max(best, HandEvaluator.evaluate(mask & ~Long.lowestOneBit(a) & ~Long.lowestOneBit(b)));
+                }
+            }
+            return best;
+        }
+
+        @Test
+        @DisplayName("무작위 7장은 21가지 5장 조합 중 최댓값과 같다")
+        void shouldMatchBestOfTwentyOne() {
+            SplittableRandom random = new SplittableRandom(7);
+            for (int i = 0; i < 500_000; i++) {
+                long mask = 0;
+                while (Long.bitCount(mask) < HandEvaluator.SEVEN_SIZE) {
+                    mask |= 1L << random.nextInt(Card.DECK_SIZE);
+                }
+                long seven = mask;
+                assertEquals(bruteForce(seven), HandEvaluator.evaluate7(seven), () -> Long.toHexString(seven));
+            }
+        }
+
+        @Test
+        @DisplayName("족보별 7장 조합 수")
+        void shouldMatchKnownDistribution() {
+            long[] counts = new long[Tier.values().length];
+            for (int a = 0; a < 52; a++)
+                for (int b = a + 1; b < 52; b++)
+                    for (int c = b + 1; c < 52; c++)
+                        for (int d = c + 1; d < 52; d++)
+                            for (int e = d + 1; e < 52; e++) {
+                                long five = 1L << a | 1L << b | 1L << c | 1L << d | 1L << e;
+                                for (int f = e + 1; f < 52; f++)
+                                    for (int g = f + 1; g < 52; g++) {
+                                        counts[HandEvaluator.tierOf(HandEvaluator.evaluate7(five | 1L << f | 1L << g)).ordinal()]++;
+                                    }
+                            }
+
+            assertAll(
+                    () -> assertEquals(4_324, counts[Tier.ROYAL_FLUSH.ordinal()]),
+                    () -> assertEquals(37_260, counts[Tier.STRAIGHT_FLUSH.ordinal()]),
+                    () -> assertEquals(224_848, counts[Tier.FOUR_OF_A_KIND.ordinal()]),
+                    () -> assertEquals(3_473_184, counts[Tier.FULL_HOUSE.ordinal()]),
+                    () -> assertEquals(4_047_644, counts[Tier.FLUSH.ordinal()]),
+                    () -> assertEquals(6_180_020, counts[Tier.STRAIGHT.ordinal()]),
+                    () -> assertEquals(6_461_620, counts[Tier.THREE_OF_A_KIND.ordinal()]),
+                    () -> assertEquals(31_433_400, counts[Tier.TWO_PAIR.ordinal()]),
+                    () -> assertEquals(58_627_800, counts[Tier.ONE_PAIR.ordinal()]),
+                    () -> assertEquals(23_294_460, counts[Tier.HIGH_CARD.ordinal()])
+            );
+        }
+    }
+}
@@ -69,6 +69,91 @@ class HandTest {
         }
     }
 
+    @Nested
+    @DisplayName("비트마스크 인코딩")
+    class MaskEncoding {
+        @Test
+        @DisplayName("카드마다 자기 인덱스 비트 하나만 켠다")
+        void shouldSetOneBitPerCard() {
+            Hand hand = new Hand();
+            hand.add(Suit.SPADES, Rank.TWO);
+            hand.add(Card.of(Suit.CLUBS, Rank.ACE));
+            hand.add(Card.indexOf(Suit.HEARTS, Rank.TEN));
+
+            long expected = (1L << Card.indexOf(Suit.SPADES, Rank.TWO))
+                    | (1L << Card.indexOf(Suit.CLUBS, Rank.ACE))
+                    | (1L << Card.indexOf(Suit.HEARTS, Rank.TEN));
+            assertEquals(expected, hand.getMask());
+            assertEquals(3, hand.size());
+            assertEquals(0, hand.getMask() >>> Card.DECK_SIZE, "52번째 이후 비트는 꺼져 있어야 합니다.");
+            for (Card card : hand.getCards()) {
+                assertNotEquals(0, hand.getMask() & (1L << card.getIndex()), "getCards()는 마스크의 카드만 돌려줘야 합니다: " + card);
+            }
+        }
+
+        @Test
+        @DisplayName("같은 카드는 어느 경로로 넣어도 거부하고 마스크를 바꾸지 않는다")
+        void shouldRejectDuplicateWithoutChangingMask() {
+            Hand hand = new Hand();
+            hand.add(Suit.DIAMONDS, Rank.QUEEN);
+            long before = hand.getMask();
+
+            assertThrows(IllegalArgumentException.class, () -> hand.add(Suit.DIAMONDS, Rank.QUEEN));
+            assertThrows(IllegalArgumentException.class, () -> hand.add(Card.of(Suit.DIAMONDS, Rank.QUEEN)));
+            assertThrows(IllegalArgumentException.class, () -> hand.add(Card.indexOf(Suit.DIAMONDS, Rank.QUEEN)));
+            assertEquals(before, hand.getMask());
+            assertEquals(1, hand.size());
+        }
+
+        @Test
+        @DisplayName("5장이 차면 새 카드든 중복 카드든 장수 제한으로 거부")
+        void shouldRejectSixthCard() {
+            Hand hand = new Hand();
+            for (int index = 0; index < 5; index++) {
+                assertTrue(hand.add(index));
+            }
+            long full = hand.getMask();
+
+            assertThrows(IllegalStateException.class, () -> hand.add(Card.DECK_SIZE - 1));
+            assertThrows(IllegalStateException.class, () -> hand.add(0), "가득 찬 핸드는 중복보다 장수 제한을 먼저 알려야 합니다.");
+            assertEquals(full, hand.getMask());
+            assertEquals(5, hand.size());
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 인덱스와 null은 거부")
+        void shouldRejectInvalidCards() {
+            Hand hand = new Hand();
+            assertThrows(IllegalArgumentException.class, () -> hand.add(-1));
+            assertThrows(IllegalArgumentException.class, () -> hand.add(Card.DECK_SIZE));
+            assertThrows(IllegalArgumentException.class, () -> hand.add(null, Rank.ACE));
+            assertThrows(IllegalArgumentException.class, () -> hand.add(Suit.SPADES, null));
+            assertEquals(0, hand.getMask());
+        }
+
+        @Test
+        @DisplayName("clear 후에는 빈 핸드로 다시 받는다")
+        void shouldReuseAfterClear() {
+            Hand hand = new Hand();
+            for (int index = 0; index < 5; index++) {
+                hand.add(index);
+            }
+            hand.open();
+            assertTrue(hand.isOpened());
+
+            hand.clear();
+            assertEquals(0, hand.getMask());
+            assertEquals(0, hand.size());
+            assertFalse(hand.isOpened(), "비운 핸드는 오픈 전 상태여야 합니다.");
+            assertThrows(IllegalStateException.class, hand::getStrength);
+
+            for (int index = 0; index < 5; index++) {
+                assertTrue(hand.add(index), "비운 뒤에는 같은 카드를 다시 받을 수 있어야 합니다.");
+            }
+            assertEquals(0b11111L, hand.getMask());
+        }
+    }
+
     @Nested
     @DisplayName("티어 판정")
     class TierEvaluation {
@@ -696,4 +781,49 @@ class HandTest {
                     "open되지 않은 핸드와 비교 시 예외가 발생해야 합니다.");
         }
     }
+
+    @Nested
+    @DisplayName("7장 중 최고 조합")
+    class BestOfSeven {
+        private long mask(Object... suitsAndRanks) {
+            long mask = 0;
+            for (int i = 0; i < suitsAndRanks.length; i += 2) {
+                mask |= 1L << Card.indexOf((Suit) suitsAndRanks[i], (Rank) suitsAndRanks[i + 1]);
+            }
+            return mask;
+        }
+
+        @Test
+        @DisplayName("가장 강한 5장을 골라 같은 척도의 강도를 돌려줌")
+        void shouldPickBestFive() {
+            // 원페어에 섞인 스트레이트 플러시
+            long straightFlush = mask(Suit.HEARTS, Rank.FIVE, Suit.HEARTS, Rank.SIX, Suit.HEARTS, Rank.SEVEN,
+                    Suit.HEARTS, Rank.EIGHT, Suit.HEARTS, Rank.NINE, Suit.CLUBS, Rank.NINE, Suit.SPADES, Rank.TWO);
+            assertEquals(Tier.STRAIGHT_FLUSH, Hand.tierOf(Hand.bestStrength(straightFlush)));
+
+            // 플러시와 포카드가 함께 있으면 포카드
+            long quads = mask(Suit.SPADES, Rank.KING, Suit.HEARTS, Rank.KING, Suit.DIAMONDS, Rank.KING, Suit.CLUBS, Rank.KING,
+                    Suit.SPADES, Rank.TWO, Suit.SPADES, Rank.SEVEN, Suit.SPADES, Rank.NINE);
+            assertEquals(Tier.FOUR_OF_A_KIND, Hand.tierOf(Hand.bestStrength(quads)));
+
+            // 투페어 셋 중 높은 두 쌍과 가장 높은 키커: 5장 핸드로 만든 같은 패와 강도가 같다
+            long threePairs = mask(Suit.SPADES, Rank.ACE, Suit.HEARTS, Rank.ACE, Suit.SPADES, Rank.QUEEN, Suit.HEARTS, Rank.QUEEN,
+                    Suit.SPADES, Rank.THREE, Suit.HEARTS, Rank.THREE, Suit.CLUBS, Rank.JACK);
+            Hand best = new Hand();
+            best.add(Suit.SPADES, Rank.ACE);
+            best.add(Suit.HEARTS, Rank.ACE);
+            best.add(Suit.SPADES, Rank.QUEEN);
+            best.add(Suit.HEARTS, Rank.QUEEN);
+            best.add(Suit.CLUBS, Rank.JACK);
+            assertEquals(best.open().getStrength(), Hand.bestStrength(threePairs));
+        }
+
+        @Test
+        @DisplayName("7장이 아니거나 범위를 벗어나면 예외")
+        void shouldRejectInvalidMasks() {
+            assertThrows(IllegalArgumentException.class, () -> Hand.bestStrength(0b11111L));
+            assertThrows(IllegalArgumentException.class, () -> Hand.bestStrength(0b1111111L << 50));
+            assertThrows(IllegalArgumentException.class, () -> Hand.tierOf(0));
+        }
+    }
 }
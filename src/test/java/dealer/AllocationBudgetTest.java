@@ -0,0 +1,195 @@
+package dealer;
+
+import common.Card;
+import common.Hand;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntToLongFunction;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 게임 루프 할당 예산 검증 테스트
+ * <p>
+ * 워밍업으로 JIT 컴파일을 끝낸 뒤 {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}로
+ * 현재 스레드가 할당한 바이트를 재어 매치당·핸드당 평균이 예산을 넘으면 실패한다. 워밍업은 라운드 값이 두 번 연속 같아질
+ * 때까지 이어 가고, 측정은 여러 라운드 중 최솟값을 쓴다. 앞선 테스트 직후의 재컴파일(디옵트) 같은 일시적인 할당은 한 라운드만
+ * 부풀릴 뿐이라 판정에 섞이지 않는다. 예산은 시스템 속성
+ * {@code pokerhole.alloc.matchBudget}, {@code pokerhole.alloc.handBudget}(바이트)으로 바꿀 수 있다.
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int MEASURED = 100_000;
+    private static final int MAX_WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final long MATCH_BUDGET = Long.getLong("pokerhole.alloc.matchBudget", 8);
+    private static final long HAND_BUDGET = Long.getLong("pokerhole.alloc.handBudget", 8);
+
+    private static com.sun.management.ThreadMXBean threads;
+    // 측정하는 작업이 통째로 지워지지 않게 결과를 모은다
+    private static volatile long sink;
+
+    @BeforeAll
+    static void setUp() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            threads = bean;
+        }
+    }
+
+    private static long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static Dealer dealerWith(int players) {
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(7));
+        dealer.retainLatest(1);
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("AB" + i, registry));
+        }
+        return dealer;
+    }
+
+    private static long playMatches(Dealer dealer, int matches) {
+        for (int i = 0; i < matches; i++) {
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            dealer.handOpen();
+            dealer.retrieveCard();
+        }
+        return dealer.getMatchCount();
+    }
+
+    // round(n)이 n번 일하는 동안 한 번당 할당한 바이트. 안정될 때까지 워밍업한 뒤 측정 라운드 중 최솟값
+    private static double bytesPerOp(IntToLongFunction round) {
+        sink += round.applyAsLong(WARMUP);
+        double previous = Double.NaN;
+        for (int i = 0; i < MAX_WARMUP_ROUNDS; i++) {
+            double current = measure(round);
+            if (current == previous) {
+                break;
+            }
+            previous = current;
+        }
+        double min = Double.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            min = Math.min(min, measure(round));
+        }
+        return min;
+    }
+
+    private static double measure(IntToLongFunction round) {
+        long before = allocatedBytes();
+        long checksum = round.applyAsLong(MEASURED);
+        double perOp = (double) (allocatedBytes() - before) / MEASURED;
+        sink += checksum;
+        return perOp;
+    }
+
+    // 매치 한 판에 할당한 바이트
+    private static double bytesPerMatch(int players) {
+        Dealer dealer = dealerWith(players);
+        return bytesPerOp(matches -> playMatches(dealer, matches));
+    }
+
+    @Nested
+    @DisplayName("매치")
+    class Match {
+        @Test
+        @DisplayName("2인 매치 한 판의 할당이 예산 이내")
+        void shouldStayWithinBudgetForTwoPlayers() {
+            assumeTrue(threads != null, "스레드별 할당 측정을 지원하지 않는 JVM");
+            double perMatch = bytesPerMatch(2);
+            assertTrue(perMatch <= MATCH_BUDGET, "매치당 " + perMatch + "바이트 할당 (예산 " + MATCH_BUDGET + ")");
+        }
+
+        @Test
+        @DisplayName("4인 매치 한 판의 할당이 예산 이내")
+        void shouldStayWithinBudgetForFourPlayers() {
+            assumeTrue(threads != null, "스레드별 할당 측정을 지원하지 않는 JVM");
+            double perMatch = bytesPerMatch(4);
+            assertTrue(perMatch <= MATCH_BUDGET, "매치당 " + perMatch + "바이트 할당 (예산 " + MATCH_BUDGET + ")");
+        }
+    }
+
+    @Nested
+    @DisplayName("홀덤")
+    class Holdem {
+        @Test
+        @DisplayName("6인 홀덤 한 판(7장 평가 포함)의 할당이 예산 이내")
+        void shouldStayWithinBudgetForSixPlayers() {
+            assumeTrue(threads != null, "스레드별 할당 측정을 지원하지 않는 JVM");
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            HoldemDealer dealer = HoldemDealer.newHoldemDealer(SeedPolicy.fixed(7));
+            for (int i = 0; i < 6; i++) {
+                dealer.enrollPlayer(Player.newPlayer("HD" + i, registry));
+            }
+            double perMatch = bytesPerOp(matches -> {
+                long checksum = 0;
+                for (int i = 0; i < matches; i++) {
+                    checksum += dealer.playMatch();
+                }
+                return checksum;
+            });
+
+            assertTrue(dealer.getMatchCount() >= WARMUP + (long) MEASURED * MEASURED_ROUNDS);
+            assertTrue(perMatch <= MATCH_BUDGET, "홀덤 매치당 " + perMatch + "바이트 할당 (예산 " + MATCH_BUDGET + ")");
+        }
+    }
+
+    @Nested
+    @DisplayName("핸드 평가")
+    class Evaluation {
+        @Test
+        @DisplayName("핸드 조립·평가·비교가 예산 이내")
+        void shouldStayWithinBudgetPerHand() {
+            assumeTrue(threads != null, "스레드별 할당 측정을 지원하지 않는 JVM");
+            // 무작위 다섯 장 조합을 미리 만들어 두고 측정 중에는 재사용한다
+            RandomGenerator random = RandomGenerator.of(SeedPolicy.DEFAULT_ALGORITHM);
+            int[][] samples = new int[1024][];
+            Deck deck = Deck.newDeck(random);
+            for (int i = 0; i < samples.length; i++) {
+                deck.shuffle(Dealer.HAND_SIZE);
+                samples[i] = new int[Dealer.HAND_SIZE];
+                for (int k = 0; k < Dealer.HAND_SIZE; k++) {
+                    samples[i][k] = deck.drawCard().getIndex();
+                }
+            }
+            Hand hand = new Hand();
+            Hand rival = new Hand();
+            for (int k = 0; k < Dealer.HAND_SIZE; k++) {
+                rival.add(Card.of(samples[0][k]));
+            }
+            rival.open();
+
+            double perHand = bytesPerOp(hands -> evaluate(hand, rival, samples, hands));
+
+            assertTrue(perHand <= HAND_BUDGET, "핸드당 " + perHand + "바이트 할당 (예산 " + HAND_BUDGET + ")");
+        }
+
+        private long evaluate(Hand hand, Hand rival, int[][] samples, int hands) {
+            long checksum = 0;
+            for (int i = 0; i < hands; i++) {
+                int[] cards = samples[i & (samples.length - 1)];
+                hand.clear();
+                for (int card : cards) {
+                    hand.add(card);
+                }
+                checksum += hand.open().getStrength() + hand.compareTo(rival);
+            }
+            return checksum;
+        }
+    }
+}
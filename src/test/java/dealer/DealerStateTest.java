@@ -0,0 +1,284 @@
+package dealer;
+
+import common.Card;
+import event.EventBus;
+import event.MatchEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import player.Player;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dealer 진행 단계(CAS 상태 머신) 검증 테스트
+ */
+class DealerStateTest {
+
+    private static Dealer dealerWith(int players) {
+        Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(3));
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("DS" + i + UUID.randomUUID().toString().substring(0, 6)));
+        }
+        return dealer;
+    }
+
+    @Nested
+    @DisplayName("단일 스레드")
+    class SingleThread {
+        @Test
+        @DisplayName("단계가 순서대로 바뀌고 실패한 호출은 단계를 바꾸지 않음")
+        void shouldAdvanceInOrder() {
+            Dealer dealer = dealerWith(2);
+            assertEquals(DealerState.READY, dealer.getState());
+            dealer.newGame();
+            assertEquals(DealerState.STARTED, dealer.getState());
+            assertThrows(IllegalStateException.class, dealer::dealCard);
+            assertEquals(DealerState.STARTED, dealer.getState(), "거부된 호출이 단계를 바꾸어서는 안 됩니다.");
+            dealer.shuffle();
+            assertEquals(DealerState.SHUFFLED, dealer.getState());
+            dealer.dealCard();
+            assertEquals(DealerState.DEALT, dealer.getState());
+            dealer.handOpen();
+            assertEquals(DealerState.OPENED, dealer.getState());
+            dealer.retrieveCard();
+            assertEquals(DealerState.READY, dealer.getState());
+        }
+
+        @Test
+        @DisplayName("인원이 부족해 배분이 거부되면 셔플 상태로 남음")
+        void shouldStayShuffledWhenTooFewPlayers() {
+            Dealer dealer = dealerWith(1);
+            dealer.newGame();
+            dealer.shuffle();
+            assertThrows(IllegalStateException.class, dealer::dealCard);
+            assertEquals(DealerState.SHUFFLED, dealer.getState());
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 복구")
+    class FailureRecovery {
+        @TempDir
+        Path dir;
+
+        @Test
+        @DisplayName("매치 로그 쓰기에 실패해도 정산은 한 번만 반영되고 다음 매치를 진행할 수 있음")
+        void shouldRecoverFromFailingMatchLog() throws Exception {
+            Dealer dealer = dealerWith(3);
+            MatchLogWriter log = MatchLogWriter.open(dir.resolve("match.log"), 1, 1);
+            dealer.recordTo(log);
+            log.close(); // 다음 append가 닫힌 채널에 쓰다가 실패한다
+
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            assertThrows(UncheckedIOException.class, dealer::handOpen);
+            assertEquals(DealerState.OPENED, dealer.getState(), "정산이 끝난 매치는 OPENED에 있어야 합니다.");
+            assertEquals(1, dealer.getMatchCount());
+            assertEquals(3L * Player.INITIAL_POINT, dealer.getPlayers().stream().mapToLong(Player::getPoint).sum());
+
+            dealer.retrieveCard();
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            assertEquals(DealerState.DEALT, dealer.getState());
+        }
+
+        @Test
+        @DisplayName("스테이지 중간에 이벤트 버스가 닫혀도 정산한 매치는 OPENED까지 마침")
+        void shouldFinishMatchWhenBusClosed() {
+            Dealer dealer = dealerWith(3);
+            EventBus bus = EventBus.newEventBus();
+            bus.subscribe("collector", batch -> { });
+            dealer.publishTo(bus);
+
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            bus.close();
+            assertThrows(IllegalStateException.class, dealer::handOpen);
+            assertMatchFinished(dealer, 3);
+        }
+
+        @Test
+        @DisplayName("구독자가 멈춰 발행이 실패해도 정산한 매치는 OPENED까지 마침")
+        void shouldFinishMatchWhenSubscriberDies() throws InterruptedException {
+            Dealer dealer = dealerWith(2);
+            EventBus bus = EventBus.newEventBus();
+            // 딜러가 발행하지 않는 번호의 이벤트를 받으면 멈춘다. 그래서 카드를 나눠줄 때까지는 살아 있다
+            MatchEvent poison = new MatchEvent.Shuffled(-1);
+            bus.subscribe("dying", batch -> {
+                if (batch.contains(poison)) {
+                    throw new Error("subscriber died");
+                }
+            });
+            dealer.publishTo(bus);
+
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            // 구독자 스레드가 멈춘 것이 발행 쪽에 보일 때까지 기다린다
+            while (true) {
+                try {
+                    bus.publish(poison);
+                    Thread.sleep(1);
+                } catch (IllegalStateException e) {
+                    break;
+                }
+            }
+            assertThrows(IllegalStateException.class, dealer::handOpen);
+            assertMatchFinished(dealer, 2);
+            assertThrows(IllegalStateException.class, bus::close);
+        }
+
+        // 발행에 실패한 매치가 한 번만 정산되고 다음 매치를 막지 않는지 확인한다
+        private static void assertMatchFinished(Dealer dealer, int players) {
+            assertEquals(DealerState.OPENED, dealer.getState(), "정산이 끝난 매치는 OPENED에 있어야 합니다.");
+            assertEquals(1, dealer.getMatchCount());
+            assertEquals(0, dealer.getLatestMatch().matchId(), "매치 기록은 한 번만 남아야 합니다.");
+            assertEquals((long) players * Player.INITIAL_POINT, dealer.getPlayers().stream().mapToLong(Player::getPoint).sum());
+            dealer.retrieveCard();
+            assertEquals(DealerState.READY, dealer.getState());
+        }
+
+        @Test
+        @DisplayName("카드 배분이 중간에 실패하면 나눠준 카드를 거두고 셔플 상태로 되돌림")
+        void shouldRollBackFailedDeal() {
+            Dealer dealer = dealerWith(2);
+            Player full = dealer.getPlayers().get(1);
+            dealer.newGame();
+            dealer.shuffle();
+            // 이미 다섯 장을 든 플레이어에게 여섯 번째 카드를 주다가 실패한다
+            for (int i = 0; i < Dealer.HAND_SIZE; i++) {
+                full.receiveCard(Card.of(Card.DECK_SIZE - 1 - i));
+            }
+            assertThrows(IllegalStateException.class, dealer::dealCard);
+            assertEquals(DealerState.SHUFFLED, dealer.getState());
+            dealer.getPlayers().forEach(player -> assertEquals(0, player.getHand().size()));
+
+            dealer.dealCard();
+            dealer.handOpen();
+            dealer.retrieveCard();
+            assertEquals(DealerState.READY, dealer.getState());
+        }
+    }
+
+    @Nested
+    @DisplayName("좌석 변경")
+    class SeatChanges {
+        private void playMatch(Dealer dealer) {
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            dealer.handOpen();
+            dealer.retrieveCard();
+        }
+
+        @Test
+        @DisplayName("플레이어가 나가도 지난 매치 결과는 그 매치의 좌석으로 읽음")
+        void shouldKeepPastSeatingAfterRemoval() {
+            Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(3));
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                players.add(dealer.enrollPlayer(Player.newPlayer("SC" + i + UUID.randomUUID().toString().substring(0, 6))));
+            }
+            // 마지막 좌석이 단독으로 이긴 매치가 나올 때까지 진행한다
+            MatchResult latest;
+            do {
+                playMatch(dealer);
+                latest = dealer.getLatestMatch();
+            } while (!latest.winner().equals(Optional.of(players.get(2).getNickName())));
+
+            dealer.removePlayer(players.get(0));
+
+            MatchResult result = dealer.getLatestMatch();
+            assertEquals(3, result.seatCount());
+            assertEquals(players.get(0).getNickName(), result.nickName(0));
+            assertEquals(Optional.of(players.get(2).getNickName()), result.winner());
+            assertEquals(Optional.of(players.get(2)), dealer.getLastMatchWinner());
+
+            playMatch(dealer);
+            MatchResult next = dealer.getLatestMatch();
+            assertEquals(2, next.seatCount());
+            assertEquals(players.get(1).getNickName(), next.nickName(0));
+            next.winner().ifPresent(winner -> assertNotEquals(players.get(0).getNickName(), winner));
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 스레드")
+    class Concurrent {
+        @Test
+        @DisplayName("여러 스레드가 뒤섞어 호출해도 매치가 온전히 진행됨")
+        void shouldKeepLifecycleIntactUnderContention() throws InterruptedException {
+            Dealer dealer = dealerWith(4);
+            int threads = 4;
+            AtomicLong opened = new AtomicLong();
+            AtomicBoolean running = new AtomicBoolean(true);
+            Set<DealerState> observed = ConcurrentHashMap.newKeySet();
+            List<Throwable> failures = new ArrayList<>();
+            CountDownLatch done = new CountDownLatch(threads);
+
+            Thread monitor = new Thread(() -> {
+                while (running.get()) {
+                    observed.add(dealer.getState());
+                }
+            });
+            monitor.start();
+            for (int t = 0; t < threads; t++) {
+                new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    try {
+                        for (int i = 0; i < 50_000; i++) {
+                            try {
+                                switch (random.nextInt(5)) {
+                                    case 0 -> dealer.newGame();
+                                    case 1 -> dealer.shuffle();
+                                    case 2 -> dealer.dealCard();
+                                    case 3 -> {
+                                        dealer.handOpen();
+                                        opened.incrementAndGet();
+                                    }
+                                    default -> dealer.retrieveCard();
+                                }
+                            } catch (IllegalStateException expected) {
+                                // 순서가 틀렸거나 다른 스레드가 처리 중
+                            }
+                        }
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+            done.await();
+            running.set(false);
+            monitor.join();
+
+            assertTrue(failures.isEmpty(), () -> "예상치 못한 예외: " + failures);
+            assertEquals(opened.get(), dealer.getMatchCount(), "성공한 오픈 수와 매치 수가 같아야 합니다.");
+            assertTrue(dealer.getMatchCount() > 0);
+            int totalPoint = dealer.getPlayers().stream().mapToInt(Player::getPoint).sum();
+            assertEquals(4 * Player.INITIAL_POINT, totalPoint, "포인트 총합은 보존되어야 합니다.");
+            assertFalse(observed.isEmpty(), "모니터 스레드가 단계를 읽을 수 있어야 합니다.");
+        }
+    }
+}
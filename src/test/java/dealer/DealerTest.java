@@ -404,5 +404,30 @@ class DealerTest {
             int winsHistorySize = (int) winsHistory.getClass().getMethod("size").invoke(winsHistory);
             assertEquals(gamesToPlay, winsHistorySize, "승자 히스토리 크기가 진행한 게임 수와 일치해야 합니다.");
         }
+
+        @Test
+        @DisplayName("보관 상한 설정 시 히스토리 크기 고정")
+        void shouldBoundHistoryWhenRetentionConfigured() throws Exception {
+            Object dealer = newDealer();
+            enroll(dealer, newPlayer("R1" + UUID.randomUUID().toString().substring(0,6)));
+            enroll(dealer, newPlayer("R2" + UUID.randomUUID().toString().substring(0,6)));
+            loadDealer().getMethod("retainLatest", int.class).invoke(dealer, 3);
+
+            for (int game = 0; game < 10; game++) {
+                loadDealer().getMethod("newGame").invoke(dealer);
+                loadDealer().getMethod("shuffle").invoke(dealer);
+                loadDealer().getMethod("dealCard").invoke(dealer);
+                loadDealer().getMethod("handOpen").invoke(dealer);
+                loadDealer().getMethod("retrieveCard").invoke(dealer);
+            }
+
+            var matchHistoryField = loadDealer().getDeclaredField("matchHistory");
+            matchHistoryField.setAccessible(true);
+            Object matchHistory = matchHistoryField.get(dealer);
+            assertEquals(3, (int) matchHistory.getClass().getMethod("size").invoke(matchHistory), "보관 상한을 넘는 매치 기록은 남지 않아야 합니다.");
+            assertEquals(10L, (long) loadDealer().getMethod("getMatchCount").invoke(dealer), "누적 매치 수는 보관 상한과 무관해야 합니다.");
+            Object latest = loadDealer().getMethod("getLatestMatch").invoke(dealer);
+            assertEquals(2, ((java.util.Map<?, ?>) latest).size(), "최신 매치 기록은 유지되어야 합니다.");
+        }
     }
 }
@@ -95,6 +95,39 @@ class DeckTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 기반 회수")
+    class CursorRetrieve {
+        @Test
+        @DisplayName("retrieve 후 같은 순서로 다시 드로우")
+        void shouldReplaySameOrderAfterRetrieve() throws Exception {
+            Object deck = newDeck();
+            Method draw = loadDeck().getMethod("drawCard");
+            Method retrieve = loadDeck().getDeclaredMethod("retrieve");
+            List<Object> first = new ArrayList<>();
+            for (int i = 0; i < 20; i++) first.add(draw.invoke(deck));
+            retrieve.invoke(deck);
+            List<Object> second = new ArrayList<>();
+            for (int i = 0; i < 20; i++) second.add(draw.invoke(deck));
+            assertEquals(first, second, "retrieve는 커서만 되돌려야 하므로 같은 카드가 같은 순서로 나와야 합니다.");
+        }
+
+        @Test
+        @DisplayName("부분 셔플 후에도 52장 고유")
+        void shouldKeepAllCardsAfterPartialShuffle() throws Exception {
+            Object deck = newDeck();
+            Method draw = loadDeck().getMethod("drawCard");
+            Method shuffle = loadDeck().getDeclaredMethod("shuffle", int.class);
+            for (int game = 0; game < 10; game++) {
+                shuffle.invoke(deck, 20);
+                Set<Object> seen = new HashSet<>();
+                for (int i = 0; i < 52; i++) {
+                    assertTrue(seen.add(draw.invoke(deck)), "부분 셔플 후 중복 카드가 존재합니다.");
+                }
+            }
+        }
+    }
+
     @Nested
     @DisplayName("접근 제한 검증")
     class AccessControlTesting {
@@ -0,0 +1,67 @@
+package dealer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drivers 실행기 선택 검증 테스트. 어느 JDK에서 돌든 두 경로를 모두 확인한다.
+ */
+class DriversTest {
+
+    private static final boolean VIRTUAL_THREADS = Runtime.version().feature() >= 21;
+
+    // 실행기가 돌린 작업의 스레드가 가상 스레드인지. 17에는 Thread.isVirtual()이 없으므로 리플렉션으로 부른다
+    private static boolean runsOnVirtualThread(ExecutorService executor) throws Exception {
+        Thread thread = executor.submit(Thread::currentThread).get();
+        if (!VIRTUAL_THREADS) {
+            return false;
+        }
+        Method isVirtual = Thread.class.getMethod("isVirtual");
+        return (boolean) isVirtual.invoke(thread);
+    }
+
+    @Nested
+    @DisplayName("실행기 선택")
+    class Selection {
+        @Test
+        @DisplayName("가상 스레드 API가 있는 JVM이면 가상 스레드, 없으면 작업 훔치기 풀")
+        void shouldFollowRunningJvm() throws Exception {
+            ExecutorService executor = Drivers.newExecutor();
+            try {
+                assertEquals(VIRTUAL_THREADS, Drivers.isVirtual(executor));
+                assertEquals(VIRTUAL_THREADS, runsOnVirtualThread(executor), "구동 작업이 고른 종류의 스레드에서 돌아야 합니다.");
+                assertEquals(!VIRTUAL_THREADS, executor instanceof ForkJoinPool);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("팩토리가 없으면 작업 훔치기 풀로 대신한다")
+        void shouldFallBackWhenFactoryMissing() throws Exception {
+            ExecutorService executor = Drivers.newExecutor("newMissingExecutor");
+            try {
+                assertInstanceOf(ForkJoinPool.class, executor);
+                assertFalse(Drivers.isVirtual(executor));
+                assertFalse(runsOnVirtualThread(executor));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("테이블 관리자가 고른 경로를 그대로 알려준다")
+        void shouldReportChoiceThroughManager() {
+            try (TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(1))) {
+                assertEquals(VIRTUAL_THREADS, manager.usesVirtualThreads());
+            }
+        }
+    }
+}
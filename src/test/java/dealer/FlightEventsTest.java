@@ -0,0 +1,145 @@
+package dealer;
+
+import common.Hand;
+import common.Tier;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dealer JFR 이벤트 검증 테스트
+ */
+class FlightEventsTest {
+
+    private static final List<String> NAMES = List.of(
+            "pokerhole.MatchStarted", "pokerhole.Shuffle", "pokerhole.Deal",
+            "pokerhole.HandEvaluation", "pokerhole.MatchSettled", "pokerhole.StageEnded");
+
+    private static Dealer dealerWith(int players) {
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(21));
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("FE" + i, registry));
+        }
+        return dealer;
+    }
+
+    private static void playMatch(Dealer dealer) {
+        dealer.newGame();
+        dealer.shuffle();
+        dealer.dealCard();
+        dealer.handOpen();
+        dealer.retrieveCard();
+    }
+
+    // 딜러 이벤트를 켠 녹화 안에서 matches판을 진행하고 기록된 이벤트를 돌려준다
+    private static List<RecordedEvent> record(Dealer dealer, int matches, Path dir) throws IOException {
+        Path file = dir.resolve("dealer.jfr");
+        try (Recording recording = new Recording()) {
+            NAMES.forEach(name -> recording.enable(name).withoutThreshold());
+            recording.start();
+            for (int i = 0; i < matches; i++) {
+                playMatch(dealer);
+            }
+            dealer.endStage();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @Nested
+    @DisplayName("기본 설정")
+    class Defaults {
+        @Test
+        @DisplayName("모든 딜러 이벤트는 기본으로 꺼져 있음")
+        void shouldBeDisabledByDefault() {
+            dealerWith(2).newGame(); // 이벤트 클래스를 등록시킨다
+            List<EventType> types = FlightRecorder.getFlightRecorder().getEventTypes().stream()
+                    .filter(type -> NAMES.contains(type.getName()))
+                    .toList();
+            assertEquals(NAMES.size(), types.size());
+            types.forEach(type -> assertFalse(type.isEnabled(), type.getName() + "이 기본으로 켜져 있습니다."));
+        }
+
+        @Test
+        @DisplayName("딜러마다 다른 테이블 번호를 가짐")
+        void shouldAssignDistinctTableIds() {
+            Dealer first = Dealer.newDealer();
+            Dealer second = Dealer.newDealer();
+            assertTrue(first.getTableId() > 0);
+            assertNotEquals(first.getTableId(), second.getTableId());
+        }
+    }
+
+    @Nested
+    @DisplayName("녹화")
+    class Recorded {
+        @Test
+        @DisplayName("매치마다 단계별 이벤트가 테이블 번호·매치 번호와 함께 남음")
+        void shouldEmitLifecycleEvents(@TempDir Path dir) throws IOException {
+            Dealer dealer = dealerWith(3);
+            List<RecordedEvent> events = record(dealer, 5, dir);
+
+            for (String name : NAMES.subList(0, 5)) {
+                List<RecordedEvent> matched = named(events, name);
+                assertEquals(5, matched.size(), name);
+                for (int i = 0; i < matched.size(); i++) {
+                    assertEquals(dealer.getTableId(), matched.get(i).getLong("tableId"));
+                    assertEquals(i, matched.get(i).getLong("matchId"));
+                }
+            }
+            named(events, "pokerhole.HandEvaluation").forEach(e -> assertEquals(3, e.getInt("hands")));
+            named(events, "pokerhole.Shuffle").forEach(e -> assertEquals(3 * Dealer.HAND_SIZE, e.getInt("cards")));
+        }
+
+        @Test
+        @DisplayName("정산 이벤트는 승자 좌석과 가장 강한 족보를 담음")
+        void shouldCarryWinningTier(@TempDir Path dir) throws IOException {
+            Dealer dealer = dealerWith(2);
+            RecordedEvent settled = named(record(dealer, 1, dir), "pokerhole.MatchSettled").get(0);
+
+            MatchResult result = dealer.getLatestMatch();
+            assertEquals(result.winnerSeat(), settled.getInt("winnerSeat"));
+            int bestSeat = result.strength(0) >= result.strength(1) ? 0 : 1;
+            Hand best = new Hand();
+            for (long m = result.hand(bestSeat); m != 0; m &= m - 1) {
+                best.add(Long.numberOfTrailingZeros(m));
+            }
+            assertEquals(best.open().getTier(), Tier.valueOf(settled.getString("winningTier")));
+            assertEquals(2, settled.getInt("players"));
+        }
+
+        @Test
+        @DisplayName("스테이지 종료 이벤트는 누적 매치 수와 우승자를 담음")
+        void shouldEmitStageEnd(@TempDir Path dir) throws IOException {
+            Dealer dealer = dealerWith(4);
+            List<RecordedEvent> ended = named(record(dealer, 20, dir), "pokerhole.StageEnded");
+
+            assertEquals(1, ended.size());
+            RecordedEvent event = ended.get(0);
+            assertEquals(20, event.getLong("matches"));
+            assertEquals(dealer.getDrawCount(), event.getLong("draws"));
+            assertEquals(dealer.getTotalStageWinner().orElseThrow().getNickName(), event.getString("winner"));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package dealer;
+
+import common.Hand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HoldemDealer 스트리트 진행·쇼다운 정산 검증 테스트
+ */
+class HoldemDealerTest {
+
+    private static HoldemDealer dealerWith(int players, long seed) {
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        HoldemDealer dealer = HoldemDealer.newHoldemDealer(SeedPolicy.fixed(seed));
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("홀덤" + i, registry));
+        }
+        return dealer;
+    }
+
+    @Nested
+    @DisplayName("스트리트 진행")
+    class Streets {
+        @Test
+        @DisplayName("홀 카드 2장씩, 플롭 3장·턴·리버 1장씩 겹치지 않게 나눠줌")
+        void shouldDealDistinctCardsPerStreet() {
+            HoldemDealer dealer = dealerWith(10, 1);
+            for (int match = 0; match < 1_000; match++) {
+                dealer.dealHoleCards();
+                long dealt = 0;
+                for (int seat = 0; seat < 10; seat++) {
+                    long hole = dealer.getHoleCards(seat);
+                    assertEquals(HoldemDealer.HOLE_CARDS, Long.bitCount(hole));
+                    assertEquals(0, dealt & hole, "좌석끼리 같은 카드를 받으면 안 됩니다.");
+                    dealt |= hole;
+                }
+                assertEquals(0, dealer.getBoard());
+                dealer.dealFlop();
+                assertEquals(3, Long.bitCount(dealer.getBoard()));
+                dealer.dealTurn();
+                assertEquals(4, Long.bitCount(dealer.getBoard()));
+                dealer.dealRiver();
+                assertEquals(HoldemDealer.BOARD_CARDS, Long.bitCount(dealer.getBoard()));
+                assertEquals(0, dealt & dealer.getBoard(), "공용 카드가 홀 카드와 겹치면 안 됩니다.");
+                dealer.showdown();
+                dealer.retrieveCards();
+                assertEquals(Street.READY, dealer.getStreet());
+            }
+        }
+
+        @Test
+        @DisplayName("순서를 건너뛰면 예외")
+        void shouldRejectOutOfOrderCalls() {
+            HoldemDealer dealer = dealerWith(2, 2);
+            assertThrows(IllegalStateException.class, dealer::dealFlop);
+            assertThrows(IllegalStateException.class, dealer::showdown);
+            dealer.dealHoleCards();
+            assertThrows(IllegalStateException.class, dealer::dealHoleCards);
+            assertThrows(IllegalStateException.class, dealer::dealRiver);
+            dealer.dealFlop();
+            dealer.dealTurn();
+            assertThrows(IllegalStateException.class, dealer::retrieveCards);
+            assertThrows(IllegalStateException.class, () -> dealer.enrollPlayer(Player.newPlayer("늦은손님")));
+            assertEquals(Street.TURN, dealer.getStreet());
+        }
+    }
+
+    @Nested
+    @DisplayName("쇼다운")
+    class Showdown {
+        @Test
+        @DisplayName("좌석마다 7장 중 최고 5장으로 겨루고 가장 강한 좌석이 이김")
+        void shouldAwardBestOfSeven() {
+            HoldemDealer dealer = dealerWith(6, 3);
+            for (int match = 0; match < 10_000; match++) {
+                dealer.dealHoleCards();
+                dealer.dealFlop();
+                dealer.dealTurn();
+                dealer.dealRiver();
+                long board = dealer.getBoard();
+                long[] holes = new long[6];
+                for (int seat = 0; seat < holes.length; seat++) {
+                    holes[seat] = dealer.getHoleCards(seat);
+                }
+                int winner = dealer.showdown();
+
+                int best = 0;
+                int bestCount = 0;
+                for (int seat = 0; seat < holes.length; seat++) {
+                    int strength = Hand.bestStrength(holes[seat] | board);
+                    assertEquals(strength, dealer.getStrength(seat));
+                    if (strength > best) {
+                        best = strength;
+                        bestCount = 1;
+                    } else if (strength == best) {
+                        bestCount++;
+                    }
+                }
+                if (bestCount == 1) {
+                    assertEquals(best, dealer.getStrength(winner));
+                } else {
+                    assertEquals(HoldemDealer.NO_WINNER, winner);
+                }
+                assertEquals(winner, dealer.getWinnerSeat());
+                dealer.retrieveCards();
+            }
+            assertEquals(10_000, dealer.getMatchCount());
+            assertTrue(dealer.getDrawCount() > 0, "보드를 함께 쓰는 홀덤에서는 공동 승리가 나와야 합니다.");
+        }
+
+        @Test
+        @DisplayName("정산해도 포인트 총합이 보존되고 같은 시드는 같은 결과")
+        void shouldConservePointsAndReplay() {
+            List<Integer> first = new ArrayList<>();
+            List<Integer> second = new ArrayList<>();
+            HoldemDealer dealer = dealerWith(4, 11);
+            HoldemDealer replay = dealerWith(4, 11);
+            dealer.setBetPoint(7);
+            replay.setBetPoint(7);
+            for (int match = 0; match < 2_000; match++) {
+                first.add(dealer.playMatch());
+                second.add(replay.playMatch());
+            }
+            assertEquals(first, second);
+            assertEquals(Street.READY, dealer.getStreet());
+            assertEquals(4L * Player.INITIAL_POINT,
+                    dealer.getPlayers().stream().mapToLong(Player::getPoint).sum());
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+        @Test
+        @DisplayName("인원이 모자라거나 넘치거나 겹치면 거부함")
+        void shouldRejectInvalidSeating() {
+            HoldemDealer dealer = dealerWith(1, 4);
+            assertThrows(IllegalStateException.class, dealer::dealHoleCards);
+            assertThrows(IllegalArgumentException.class, () -> dealer.enrollPlayer(dealer.getPlayers().get(0)));
+
+            HoldemDealer full = dealerWith(HoldemDealer.MAX_PLAYER, 5);
+            assertThrows(IllegalStateException.class, () -> full.enrollPlayer(Player.newPlayer("열한번째")));
+            assertThrows(UnsupportedOperationException.class, () -> full.getPlayers().clear());
+            assertThrows(IllegalStateException.class, () -> full.getStrength(0));
+            assertThrows(IllegalArgumentException.class, () -> full.setBetPoint(0));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package dealer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MatchHistory 열 기반 기록 검증 테스트
+ */
+class MatchHistoryTest {
+
+    // 매치 번호 id의 좌석 seat에 겹치지 않는 카드 5장을 만든다
+    private static long mask(long id, int seat) {
+        int base = (int) ((id * 4 + seat) % 10) * 5;
+        return 0b11111L << base;
+    }
+
+    private static final NicknameRegistry REGISTRY = NicknameRegistry.newRegistry();
+    private static final List<Player> PLAYERS = List.of(Player.newPlayer("기록1", REGISTRY), Player.newPlayer("기록2", REGISTRY),
+            Player.newPlayer("기록3", REGISTRY), Player.newPlayer("기록4", REGISTRY));
+
+    private static void record(MatchHistory history, long id, int seats) {
+        history.begin(id, Seating.of(PLAYERS.subList(0, seats)));
+        for (int seat = 0; seat < seats; seat++) {
+            history.seat(seat, mask(id, seat), (int) (id % 7000) + seat + 1);
+        }
+        history.finish((int) (id % (seats + 1)) - 1);
+    }
+
+    @Nested
+    @DisplayName("열 기록")
+    class Columns {
+        @Test
+        @DisplayName("카드·강도·승자를 그대로 돌려준다")
+        void shouldRoundTripColumns() {
+            MatchHistory history = new MatchHistory();
+            for (long id = 0; id < 40; id++) record(history, id, 3);
+            assertEquals(40, history.size());
+            assertEquals(40, history.winners().size(), "승자 뷰의 크기는 매치 기록과 같아야 합니다.");
+            for (int i = 0; i < 40; i++) {
+                assertEquals(i, history.matchId(i));
+                assertEquals(3, history.seatCount(i));
+                for (int seat = 0; seat < 3; seat++) {
+                    assertEquals(mask(i, seat), history.handMask(i, seat), "카드 마스크가 복원되지 않습니다.");
+                    assertEquals(i % 7000 + seat + 1, history.strength(i, seat));
+                }
+                assertEquals(i % 4 - 1, history.winnerSeat(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("상한 보관")
+    class Bounded {
+        @Test
+        @DisplayName("최근 N개만 남는다")
+        void shouldKeepLatestOnly() {
+            MatchHistory history = new MatchHistory();
+            history.limit(3);
+            for (long id = 0; id < 10; id++) record(history, id, 2);
+            assertEquals(3, history.size());
+            assertEquals(7, history.matchId(0));
+            assertEquals(9, history.matchId(2));
+            assertEquals(mask(9, 1), history.handMask(2, 1));
+        }
+
+        @Test
+        @DisplayName("기존 기록을 줄일 때도 최근 것을 남긴다")
+        void shouldTrimExistingEntries() {
+            MatchHistory history = new MatchHistory();
+            for (long id = 0; id < 20; id++) record(history, id, 4);
+            history.limit(5);
+            assertEquals(5, history.size());
+            assertEquals(15, history.matchId(0));
+            record(history, 20, 4);
+            assertEquals(16, history.matchId(0));
+            assertEquals(20, history.matchId(4));
+            assertEquals(mask(20, 3), history.handMask(4, 3));
+        }
+
+        @Test
+        @DisplayName("0 이하 상한은 거부")
+        void shouldRejectNonPositiveLimit() {
+            assertThrows(IllegalArgumentException.class, () -> new MatchHistory().limit(0));
+        }
+    }
+}
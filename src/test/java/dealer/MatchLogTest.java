@@ -0,0 +1,230 @@
+package dealer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import player.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MatchLogWriter / MatchLogReader 바이너리 로그 검증 테스트
+ */
+class MatchLogTest {
+
+    @TempDir
+    Path dir;
+
+    private static Dealer dealerWith(int players) {
+        Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(5));
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("ML" + i + UUID.randomUUID().toString().substring(0, 6)));
+        }
+        return dealer;
+    }
+
+    // 마지막 강제 기록 전에 멈춘 것처럼 헤더의 checkpoint를 되돌린다
+    private static void rewindCheckpoint(Path file, long records) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, records), MatchLogFormat.CHECKPOINT);
+        }
+    }
+
+    private static long checkpointOf(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(MatchLogFormat.HEADER_SIZE).order(MatchLogFormat.ORDER);
+            channel.read(header, 0);
+            return MatchLogFormat.checkpoint(header);
+        }
+    }
+
+    private static void play(Dealer dealer) {
+        dealer.newGame();
+        dealer.shuffle();
+        dealer.dealCard();
+        dealer.handOpen();
+    }
+
+    @Nested
+    @DisplayName("기록과 조회")
+    class WriteAndRead {
+        @Test
+        @DisplayName("딜러가 진행한 매치를 순서대로 다시 읽는다")
+        void shouldReadBackEveryMatch() throws IOException {
+            Path file = dir.resolve("matches.log");
+            Dealer dealer = dealerWith(3);
+            String[] latest = new String[3];
+            try (MatchLogWriter writer = MatchLogWriter.open(file, 7, 2)) {
+                dealer.recordTo(writer);
+                for (int game = 0; game < 100; game++) {
+                    play(dealer);
+                    dealer.retrieveCard();
+                }
+                latest = dealer.getLatestMatch().values().toArray(latest);
+            }
+
+            try (MatchLogReader reader = MatchLogReader.open(file)) {
+                assertEquals(100, reader.size());
+                int draws = 0;
+                for (MatchRecord record : reader) {
+                    assertEquals(3, record.seatCount());
+                    if (record.isDraw()) draws++;
+                }
+                assertEquals(dealer.getDrawCount(), draws, "무승부 수가 딜러 집계와 같아야 합니다.");
+                assertEquals(42, reader.matchId(42), "N번째 레코드를 바로 찾을 수 있어야 합니다.");
+                MatchRecord last = reader.get(99);
+                for (int seat = 0; seat < 3; seat++) {
+                    assertEquals(latest[seat], last.describe(seat), "마지막 매치의 패가 딜러 기록과 달라서는 안 됩니다.");
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("장애 복구")
+    class Recovery {
+        @Test
+        @DisplayName("잘린 꼬리는 버리고 이어서 기록한다")
+        void shouldRecoverFromTornTail() throws IOException {
+            Path file = dir.resolve("torn.log");
+            Dealer dealer = dealerWith(2);
+            try (MatchLogWriter writer = MatchLogWriter.open(file)) {
+                dealer.recordTo(writer);
+                for (int game = 0; game < 10; game++) {
+                    play(dealer);
+                    dealer.retrieveCard();
+                }
+            }
+
+            // 강제 기록 전에 멈춘 것처럼 꾸민 뒤 마지막 레코드를 훼손하고 반쪽짜리 레코드를 덧붙인다
+            rewindCheckpoint(file, 0);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                long last = MatchLogFormat.HEADER_SIZE + 9L * MatchLogFormat.RECORD_SIZE;
+                channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), last + 12);
+                channel.write(ByteBuffer.wrap(new byte[20]), channel.size());
+            }
+
+            try (MatchLogReader reader = MatchLogReader.open(file)) {
+                assertEquals(9, reader.size(), "훼손된 마지막 레코드와 잘린 꼬리는 읽지 않아야 합니다.");
+            }
+            try (MatchLogWriter writer = MatchLogWriter.open(file)) {
+                assertEquals(9, writer.records());
+                dealer.recordTo(writer);
+                play(dealer);
+            }
+            try (MatchLogReader reader = MatchLogReader.open(file)) {
+                assertEquals(10, reader.size());
+                assertTrue(reader.isValid(9));
+                assertEquals(10, reader.matchId(9), "복구 후 새 매치가 이어서 기록되어야 합니다.");
+            }
+        }
+
+        @Test
+        @DisplayName("중간 레코드가 깨지면 뒤의 온전한 레코드까지 버린다")
+        void shouldTruncateAtFirstCorruptRecord() throws IOException {
+            Path file = dir.resolve("middle.log");
+            Dealer dealer = dealerWith(2);
+            try (MatchLogWriter writer = MatchLogWriter.open(file)) {
+                dealer.recordTo(writer);
+                for (int game = 0; game < 10; game++) {
+                    play(dealer);
+                    dealer.retrieveCard();
+                }
+            }
+
+            // 3번째 레코드까지만 내린 채 멈춘 것처럼 꾸미고 6번째 레코드만 훼손한다. 7번째부터는 체크섬이 그대로 맞다
+            rewindCheckpoint(file, 3);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                long corrupt = MatchLogFormat.HEADER_SIZE + 5L * MatchLogFormat.RECORD_SIZE;
+                channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), corrupt + 12);
+            }
+
+            try (MatchLogReader reader = MatchLogReader.open(file)) {
+                assertEquals(5, reader.size(), "처음 깨진 레코드부터는 읽지 않아야 합니다.");
+            }
+            try (MatchLogWriter writer = MatchLogWriter.open(file)) {
+                assertEquals(5, writer.records(), "처음 깨진 레코드 위치에서 잘라야 합니다.");
+                dealer.recordTo(writer);
+                play(dealer);
+            }
+            try (MatchLogReader reader = MatchLogReader.open(file)) {
+                assertEquals(6, reader.size());
+                assertTrue(reader.isValid(5));
+                assertEquals(10, reader.matchId(5), "잘린 위치에 새 매치가 이어서 기록되어야 합니다.");
+            }
+        }
+
+        @Test
+        @DisplayName("쓰기에 실패해도 묶음 버퍼가 망가지지 않고 파일에는 온전한 레코드만 남는다")
+        void shouldKeepBatchIntactAfterWriteFailure() throws IOException {
+            Path file = dir.resolve("failing.log");
+            Dealer dealer = dealerWith(2);
+            MatchLogWriter writer = MatchLogWriter.open(file, 2, 1);
+            dealer.recordTo(writer);
+            for (int game = 0; game < 2; game++) {
+                play(dealer);
+                dealer.retrieveCard();
+            }
+            writer.close(); // 이후 쓰기는 닫힌 채널에 쓰다가 실패한다
+
+            play(dealer);
+            dealer.retrieveCard();
+            assertThrows(UncheckedIOException.class, () -> play(dealer), "묶음이 차서 쓰다가 실패해야 합니다.");
+            dealer.retrieveCard();
+            // 가득 찬 채로 남은 묶음을 다시 쓰려다 실패해야지, 버퍼 범위를 넘어 쓰다 깨져서는 안 된다
+            assertThrows(UncheckedIOException.class, () -> play(dealer));
+            assertEquals(4, writer.records(), "다시 쓰기에 실패한 레코드는 묶음에 넣지 않아야 합니다.");
+
+            try (MatchLogReader reader = MatchLogReader.open(file)) {
+                assertEquals(2, reader.size(), "실패한 묶음은 파일에 남지 않아야 합니다.");
+                assertEquals(1, reader.matchId(1));
+            }
+        }
+
+        @Test
+        @DisplayName("열 때는 checkpoint 뒤의 꼬리만 검사한다")
+        void shouldScanOnlyAfterCheckpoint() throws IOException {
+            Path file = dir.resolve("checkpoint.log");
+            Dealer dealer = dealerWith(2);
+            try (MatchLogWriter writer = MatchLogWriter.open(file, 4, 1)) {
+                dealer.recordTo(writer);
+                for (int game = 0; game < 10; game++) {
+                    play(dealer);
+                    dealer.retrieveCard();
+                }
+            }
+            assertEquals(10, checkpointOf(file), "닫으면 모든 레코드를 내리고 그 수를 적어야 합니다.");
+
+            // checkpoint 앞의 레코드는 다시 검사하지 않으므로 훼손돼도 세고, 읽을 때 체크섬으로 알려준다
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), MatchLogFormat.HEADER_SIZE + 2L * MatchLogFormat.RECORD_SIZE + 12);
+            }
+            try (MatchLogReader reader = MatchLogReader.open(file)) {
+                assertEquals(10, reader.size());
+                assertFalse(reader.isValid(2));
+                assertThrows(IllegalStateException.class, () -> reader.get(2));
+                assertTrue(reader.isValid(3));
+            }
+        }
+
+        @Test
+        @DisplayName("로그 파일이 아니면 거부")
+        void shouldRejectForeignFile() throws IOException {
+            Path file = dir.resolve("foreign.log");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap("not a log file".getBytes()));
+            }
+            assertThrows(IOException.class, () -> MatchLogReader.open(file));
+            assertThrows(IOException.class, () -> MatchLogWriter.open(file));
+        }
+    }
+}
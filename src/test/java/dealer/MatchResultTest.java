@@ -0,0 +1,59 @@
+package dealer;
+
+import common.Hand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import player.Player;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MatchResult 지연 렌더링 검증 테스트
+ */
+class MatchResultTest {
+
+    @Test
+    @DisplayName("맵으로 읽으면 좌석 순서대로 닉네임 → 패 문자열")
+    void shouldRenderAsOrderedMap() {
+        Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(21));
+        List<Player> players = List.of(
+                dealer.enrollPlayer(Player.newPlayer("MR" + UUID.randomUUID().toString().substring(0, 6))),
+                dealer.enrollPlayer(Player.newPlayer("MR" + UUID.randomUUID().toString().substring(0, 6))),
+                dealer.enrollPlayer(Player.newPlayer("MR" + UUID.randomUUID().toString().substring(0, 6))));
+        assertTrue(dealer.getLatestMatch().isEmpty(), "매치 전에는 결과가 비어 있어야 합니다.");
+
+        dealer.newGame();
+        dealer.shuffle();
+        dealer.dealCard();
+        dealer.handOpen();
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (Player player : players) {
+            expected.put(player.getNickName(), player.getHand().toString());
+        }
+        MatchResult result = dealer.getLatestMatch();
+        assertEquals(expected, result);
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(result.keySet()), "좌석 순서가 유지되어야 합니다.");
+        assertEquals(players.get(1).getHand().getMask(), result.hand(1));
+        assertEquals(dealer.getLastMatchWinner().map(Player::getNickName), result.winner());
+        assertEquals(result.render(2), result.renderTo(2, new StringBuilder()).toString());
+        assertThrows(UnsupportedOperationException.class, () -> result.put("x", "y"));
+    }
+
+    @Test
+    @DisplayName("버퍼에 이어 쓴 패 문자열은 toString과 같음")
+    void shouldDescribeIntoBuffer() {
+        Hand hand = new Hand();
+        for (int index : new int[]{0, 13, 26, 39, 51}) {
+            hand.add(index);
+        }
+        assertEquals("앞 " + hand, Hand.describe(new StringBuilder("앞 "), hand.getMask(), 0).toString());
+        hand.open();
+        assertEquals(hand.toString(), Hand.describe(hand.getMask(), hand.getStrength()));
+    }
+}
@@ -0,0 +1,178 @@
+package dealer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.Player;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParallelStage 병렬 스테이지 검증 테스트
+ */
+class ParallelStageTest {
+
+    private static Dealer dealerWith(int players) {
+        return dealerWith(players, Dealer.newDealer());
+    }
+
+    private static Dealer dealerWith(int players, Dealer dealer) {
+        for (int i = 0; i < players; i++) {
+            dealer.enrollPlayer(Player.newPlayer("PS" + i + UUID.randomUUID().toString().substring(0, 6)));
+        }
+        return dealer;
+    }
+
+    private static int[] snapshot(Dealer dealer) {
+        List<Player> seats = dealer.seats();
+        int[] values = new int[seats.size() * 4];
+        for (int i = 0; i < seats.size(); i++) {
+            Player p = seats.get(i);
+            values[i * 4] = p.getPoint();
+            values[i * 4 + 1] = p.getWins();
+            values[i * 4 + 2] = p.getLosses();
+            values[i * 4 + 3] = p.getDraws();
+        }
+        return values;
+    }
+
+    private static void playSequential(Dealer dealer, int matches) {
+        for (int i = 0; i < matches; i++) {
+            dealer.newGame();
+            dealer.shuffle();
+            dealer.dealCard();
+            dealer.handOpen();
+            dealer.retrieveCard();
+        }
+    }
+
+    private static void assertSameMatch(MatchResult expected, MatchResult actual) {
+        assertEquals(expected.seatCount(), actual.seatCount());
+        for (int seat = 0; seat < expected.seatCount(); seat++) {
+            assertEquals(expected.hand(seat), actual.hand(seat), seat + "번 좌석의 패가 다릅니다.");
+            assertEquals(expected.strength(seat), actual.strength(seat));
+        }
+    }
+
+    @Nested
+    @DisplayName("결과 병합")
+    class Merge {
+        @Test
+        @DisplayName("모든 매치가 전적에 반영되고 포인트 총합은 보존")
+        void shouldMergeEveryMatchAndConservePoints() {
+            Dealer dealer = dealerWith(4);
+            int matches = 10_001;
+            ParallelStage.play(dealer, matches, 4, SeedPolicy.fixed(3));
+
+            int totalPoint = 0;
+            for (Player p : dealer.seats()) {
+                assertEquals(matches, p.getWins() + p.getLosses() + p.getDraws(), p.getNickName() + "의 전적 합이 매치 수와 다릅니다.");
+                totalPoint += p.getPoint();
+            }
+            assertEquals(4 * Player.INITIAL_POINT, totalPoint, "포인트 총합은 보존되어야 합니다.");
+            assertTrue(dealer.getTotalStageWinner().isPresent(), "병합 후 스테이지 승자가 있어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("같은 시드·워커 수면 같은 결과")
+        void shouldBeReproducibleForSameSeed() {
+            Dealer a = dealerWith(3);
+            Dealer b = dealerWith(3);
+            ParallelStage.play(a, 5_000, 3, SeedPolicy.fixed(11));
+            ParallelStage.play(b, 5_000, 3, SeedPolicy.fixed(11));
+            assertArrayEquals(snapshot(a), snapshot(b));
+        }
+    }
+
+    @Nested
+    @DisplayName("순차 진행과 비교")
+    class AgainstSequential {
+        @Test
+        @DisplayName("워커 하나면 같은 스트림의 순차 진행과 집계·전적·기록이 같다")
+        void shouldMatchSequentialWithOneWorker() {
+            Dealer sequential = dealerWith(4, Dealer.newDealer(SeedPolicy.fixed(7)));
+            playSequential(sequential, 3_000);
+
+            Dealer parallel = dealerWith(4, Dealer.newDealer(SeedPolicy.fixed(99)));
+            ParallelStage.play(parallel, 3_000, 1, SeedPolicy.fixed(7));
+
+            assertEquals(sequential.getMatchCount(), parallel.getMatchCount());
+            assertEquals(sequential.getDrawCount(), parallel.getDrawCount());
+            assertArrayEquals(snapshot(sequential), snapshot(parallel));
+            assertEquals(2_999, parallel.getLatestMatch().matchId());
+            assertSameMatch(sequential.getLatestMatch(), parallel.getLatestMatch());
+            assertEquals(sequential.getLatestMatch().winnerSeat(), parallel.getLatestMatch().winnerSeat());
+        }
+
+        @Test
+        @DisplayName("여러 워커면 몫마다 순차 진행한 집계의 합과 같다")
+        void shouldSumWorkerCounters() {
+            int matches = 10_001;
+            int workers = 4;
+            SeedPolicy expectedSeeds = SeedPolicy.fixed(5);
+            long draws = 0;
+            Dealer last = null;
+            for (int w = 0; w < workers; w++) {
+                last = dealerWith(3, Dealer.newDealer(expectedSeeds));
+                playSequential(last, matches / workers + (w < matches % workers ? 1 : 0));
+                draws += last.getDrawCount();
+            }
+
+            Dealer dealer = dealerWith(3);
+            dealer.retainLatest(10);
+            ParallelStage.play(dealer, matches, workers, SeedPolicy.fixed(5));
+            assertEquals(matches, dealer.getMatchCount());
+            assertEquals(draws, dealer.getDrawCount());
+            assertEquals(matches - 1, dealer.getLatestMatch().matchId(), "기록은 이어지는 매치 번호로 합쳐져야 합니다.");
+            assertSameMatch(last.getLatestMatch(), dealer.getLatestMatch());
+
+            ParallelStage.play(dealer, 100, workers, SeedPolicy.fixed(6));
+            assertEquals(matches + 100, dealer.getMatchCount(), "다음 스테이지는 이어서 센다.");
+            assertEquals(matches + 99, dealer.getLatestMatch().matchId());
+        }
+    }
+
+    @Nested
+    @DisplayName("예외 처리")
+    class ExceptionHandling {
+        @Test
+        @DisplayName("게임 진행 중인 딜러는 거부")
+        void shouldRejectDealerInGame() {
+            Dealer dealer = dealerWith(2);
+            dealer.newGame();
+            assertThrows(IllegalStateException.class, () -> ParallelStage.play(dealer, 10, 2, SeedPolicy.fixed(1)));
+        }
+
+        @Test
+        @DisplayName("진행하는 동안 딜러의 다른 호출은 거부하고 끝나면 돌려놓음")
+        void shouldHoldDealerWhilePlaying() throws InterruptedException {
+            Dealer dealer = dealerWith(2);
+            dealer.retainLatest(1);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread stage = new Thread(() -> {
+                try {
+                    ParallelStage.play(dealer, 200_000, 2, SeedPolicy.fixed(2));
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            stage.start();
+            while (dealer.getState() != DealerState.STAGING && stage.isAlive()) {
+                Thread.onSpinWait();
+            }
+            assertTrue(stage.isAlive(), "스테이지가 끝나기 전에 확인해야 합니다.");
+            IllegalStateException e = assertThrows(IllegalStateException.class, dealer::newGame);
+            assertTrue(e.getMessage().contains("STAGING"));
+            assertThrows(IllegalStateException.class, () -> dealer.enrollPlayer(Player.newPlayer("PS" + UUID.randomUUID().toString().substring(0, 8))));
+
+            stage.join();
+            assertNull(failure.get());
+            assertEquals(DealerState.READY, dealer.getState());
+            assertEquals(200_000, dealer.getMatchCount());
+        }
+    }
+}
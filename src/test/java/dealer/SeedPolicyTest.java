@@ -0,0 +1,72 @@
+package dealer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SeedPolicy 및 덱 난수 주입 검증 테스트
+ */
+class SeedPolicyTest {
+
+    private static List<String> firstCards(Deck deck, int count) {
+        List<String> cards = new ArrayList<>();
+        deck.shuffle(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(deck.drawCard().toString());
+        }
+        return cards;
+    }
+
+    @Nested
+    @DisplayName("재현성")
+    class Reproducibility {
+        @Test
+        @DisplayName("같은 시드는 같은 스트림 순서를 만든다")
+        void shouldReproduceStreamsForSameSeed() {
+            SeedPolicy a = SeedPolicy.fixed(42);
+            SeedPolicy b = SeedPolicy.fixed(42);
+            for (int table = 0; table < 3; table++) {
+                Deck left = Deck.newDeck(a.nextStream());
+                Deck right = Deck.newDeck(b.nextStream());
+                for (int game = 0; game < 5; game++) {
+                    assertEquals(firstCards(left, 20), firstCards(right, 20),
+                            "같은 시드로 만든 " + (table + 1) + "번째 테이블의 셔플 결과가 달라서는 안 됩니다.");
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("테이블마다 다른 스트림")
+        void shouldSplitIndependentStreams() {
+            SeedPolicy policy = SeedPolicy.fixed(7);
+            Deck first = Deck.newDeck(policy.nextStream());
+            Deck second = Deck.newDeck(policy.nextStream());
+            assertNotEquals(firstCards(first, 20), firstCards(second, 20), "분할된 스트림은 서로 다른 셔플을 만들어야 합니다.");
+        }
+
+        @Test
+        @DisplayName("외부 분할 생성기를 루트로 사용")
+        void shouldAcceptCustomSplittableRoot() {
+            SeedPolicy a = SeedPolicy.of(new SplittableRandom(1));
+            SeedPolicy b = SeedPolicy.of(new SplittableRandom(1));
+            assertEquals(firstCards(Deck.newDeck(a.nextStream()), 20), firstCards(Deck.newDeck(b.nextStream()), 20));
+        }
+    }
+
+    @Nested
+    @DisplayName("예외 처리")
+    class ExceptionHandling {
+        @Test
+        @DisplayName("분할 불가능한 알고리즘은 거부")
+        void shouldRejectNonSplittableAlgorithm() {
+            assertThrows(IllegalArgumentException.class, () -> SeedPolicy.fixed("Xoroshiro128PlusPlus", 1));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package dealer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TableManager 멀티 테이블 진행 검증 테스트
+ */
+class TableManagerTest {
+
+    private static List<Player> seat(Table table, NicknameRegistry registry, int players) {
+        List<Player> seated = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            seated.add(table.enroll(Player.newPlayer("T" + table.getId() + "-" + i, registry)));
+        }
+        return seated;
+    }
+
+    @Nested
+    @DisplayName("진행")
+    class Running {
+        @Test
+        @DisplayName("천 개 테이블이 동시에 정해진 매치를 마치고 포인트 총합이 보존됨")
+        void shouldRunThousandTables() {
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            List<Player> everyone = new ArrayList<>();
+            try (TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(23))) {
+                for (int t = 0; t < 1_000; t++) {
+                    everyone.addAll(seat(manager.openTable(), registry, 2 + t % 3));
+                }
+                for (Table table : manager.tables()) {
+                    table.start(100);
+                }
+                manager.awaitAll();
+
+                TableStats stats = manager.stats();
+                assertEquals(1_000, stats.tables());
+                assertEquals(0, stats.running());
+                assertEquals(everyone.size(), stats.players());
+                assertEquals(100_000, stats.matches());
+                assertEquals(100_000, manager.getLedger().transfers());
+                assertTrue(manager.getLedger().audit(everyone, (long) everyone.size() * Player.INITIAL_POINT));
+            }
+        }
+
+        @Test
+        @DisplayName("멈추라고 하면 무한 진행 중인 테이블이 매치 경계에서 멈추고 다시 시작할 수 있음")
+        void shouldStopAndRestart() throws Exception {
+            try (TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(5))) {
+                Table table = manager.openTable();
+                seat(table, NicknameRegistry.newRegistry(), 4);
+                CompletableFuture<Table> running = table.start();
+                while (table.getMatchesPlayed() < Table.SLICE_MATCHES) {
+                    Thread.onSpinWait();
+                }
+                table.stop();
+                assertSame(table, running.get(10, TimeUnit.SECONDS));
+                assertFalse(table.isRunning());
+                assertEquals(DealerState.READY, table.getDealer().getState());
+                assertEquals(table.getDealer().getMatchCount(), table.getMatchesPlayed());
+
+                long before = table.getMatchesPlayed();
+                table.start(10).get(10, TimeUnit.SECONDS);
+                assertEquals(before + 10, table.getMatchesPlayed());
+            }
+        }
+
+        @Test
+        @DisplayName("닫으면 진행 중인 모든 테이블을 멈춤")
+        void shouldStopAllOnClose() {
+            TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(8));
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            List<Table> tables = new ArrayList<>();
+            for (int t = 0; t < 50; t++) {
+                Table table = manager.openTable();
+                seat(table, registry, 2);
+                table.start();
+                tables.add(table);
+            }
+            manager.close();
+
+            tables.forEach(table -> assertFalse(table.isRunning()));
+            assertThrows(IllegalStateException.class, manager::openTable);
+            assertThrows(IllegalStateException.class, () -> tables.get(0).start(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("테이블 관리")
+    class Management {
+        @Test
+        @DisplayName("테이블마다 고유 번호로 찾고 멈춘 테이블만 닫을 수 있음")
+        void shouldLookUpAndCloseTables() throws Exception {
+            try (TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(1))) {
+                Set<Long> ids = new HashSet<>();
+                for (int t = 0; t < 10; t++) {
+                    ids.add(manager.openTable().getId());
+                }
+                assertEquals(10, ids.size());
+
+                Table table = manager.table(ids.iterator().next()).orElseThrow();
+                seat(table, NicknameRegistry.newRegistry(), 2);
+                table.start();
+                assertThrows(IllegalStateException.class, () -> manager.closeTable(table));
+                table.stop();
+                table.completion().get(10, TimeUnit.SECONDS);
+                manager.closeTable(table);
+
+                assertTrue(manager.table(table.getId()).isEmpty());
+                assertEquals(9, manager.stats().tables());
+            }
+        }
+
+        @Test
+        @DisplayName("시작과 겹친 등록은 시작 전에 끝나거나 거부되어 진행 중에 자리가 바뀌지 않음")
+        void shouldNotEnrollDuringStart() throws Exception {
+            try (TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(4))) {
+                NicknameRegistry registry = NicknameRegistry.newRegistry();
+                for (int round = 0; round < 200; round++) {
+                    Table table = manager.openTable();
+                    seat(table, registry, 2);
+                    Player late = Player.newPlayer("늦게" + round, registry);
+                    CompletableFuture<Boolean> enrolled = CompletableFuture.supplyAsync(() -> {
+                        try {
+                            table.enroll(late);
+                            return true;
+                        } catch (IllegalStateException running) {
+                            return false;
+                        }
+                    });
+                    try {
+                        table.start(100).get(10, TimeUnit.SECONDS);
+                    } catch (IllegalStateException busy) {
+                        // 등록이 딜러를 잡고 있던 순간이면 시작이 거부된다
+                    }
+                    enrolled.get(10, TimeUnit.SECONDS);
+                    table.completion().get(10, TimeUnit.SECONDS);
+                    long played = late.getWins() + late.getLosses() + late.getDraws();
+                    // 진행 전에 앉았으면 모든 매치를, 진행 뒤에 앉았거나 거부됐으면 한 판도 치르지 않는다
+                    assertTrue(played == 0 || played == table.getMatchesPlayed(), "진행 중에 자리가 바뀌었습니다: " + played + "판");
+                    manager.closeTable(table);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("플레이어가 부족하거나 진행 중이면 시작·등록을 거부함")
+        void shouldRejectInvalidStarts() {
+            try (TableManager manager = TableManager.newTableManager(SeedPolicy.fixed(2))) {
+                NicknameRegistry registry = NicknameRegistry.newRegistry();
+                Table table = manager.openTable();
+                table.enroll(Player.newPlayer("혼자", registry));
+                assertThrows(IllegalStateException.class, () -> table.start(1));
+                assertThrows(IllegalArgumentException.class, () -> table.start(-1));
+
+                table.enroll(Player.newPlayer("둘째", registry));
+                table.start();
+                assertThrows(IllegalStateException.class, () -> table.start(1));
+                assertThrows(IllegalStateException.class, () -> table.enroll(Player.newPlayer("셋째", registry)));
+            }
+        }
+    }
+}
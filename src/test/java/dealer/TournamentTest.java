@@ -0,0 +1,147 @@
+package dealer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.NicknameRegistry;
+import player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tournament 탈락·테이블 재배치 검증 테스트
+ */
+class TournamentTest {
+
+    private static List<Player> entrants(int count) {
+        NicknameRegistry registry = NicknameRegistry.newRegistry();
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(Player.newPlayer("참가자" + i, registry));
+        }
+        return players;
+    }
+
+    private static TournamentResult play(List<Player> players, long seed) throws Exception {
+        Tournament tournament = Tournament.newTournament(players, SeedPolicy.fixed(seed));
+        TournamentResult result = tournament.start().get(2, TimeUnit.MINUTES);
+        assertTrue(tournament.isFinished());
+        assertEquals(0, tournament.remaining());
+        assertTrue(tournament.getLedger().audit(players, (long) players.size() * Player.INITIAL_POINT),
+                "토너먼트 동안 포인트 총합이 보존되어야 합니다.");
+        players.forEach(p -> assertTrue(p.getPoint() >= 0, p.getNickName() + "의 포인트가 음수입니다: " + p.getPoint()));
+        assertEquals((long) players.size() * Player.INITIAL_POINT, result.champion().getPoint(),
+                "탈락자는 모두 0이므로 우승자가 포인트 전부를 가져야 합니다.");
+        return result;
+    }
+
+    @Nested
+    @DisplayName("진행")
+    class Running {
+        @Test
+        @DisplayName("여러 테이블에서 한 명이 남을 때까지 진행하고 모두에게 순위를 매김")
+        void shouldRankEveryEntrant() throws Exception {
+            List<Player> players = entrants(60);
+            TournamentResult result = play(players, 17);
+
+            assertEquals(players.size(), result.standings().size());
+            Set<Player> ranked = Collections.newSetFromMap(new IdentityHashMap<>());
+            ranked.addAll(result.standings());
+            assertEquals(players.size(), ranked.size(), "한 플레이어가 두 번 순위에 오르면 안 됩니다.");
+            assertTrue(ranked.containsAll(players));
+
+            assertTrue(result.champion().getPoint() > 0);
+            result.standings().subList(1, players.size()).forEach(p -> assertEquals(0, p.getPoint(), p.getNickName()));
+            assertEquals(1, result.placeOf(result.champion()));
+            assertTrue(result.matches() > 0);
+        }
+
+        @Test
+        @DisplayName("판돈이 스택보다 커져도 올인으로 정산해 총합이 보존되고 음수 스택이 없음")
+        void shouldCapBetsAtRemainingStack() throws Exception {
+            // 판돈이 금방 초기 포인트까지 오르므로 대부분의 패배가 올인이 된다
+            List<Player> players = entrants(257);
+            Tournament tournament = Tournament.newTournament(players, SeedPolicy.fixed(257));
+            tournament.raiseBetEvery(1);
+            tournament.start().get(2, TimeUnit.MINUTES);
+            assertTrue(tournament.getLedger().audit(players, (long) players.size() * Player.INITIAL_POINT));
+            players.forEach(p -> assertTrue(p.getPoint() >= 0, p.getNickName() + "의 포인트가 음수입니다: " + p.getPoint()));
+        }
+
+        @Test
+        @DisplayName("파이널 테이블은 남은 전원이 한 테이블에 모였을 때의 인원으로 꾸려짐")
+        void shouldFormFinalTable() throws Exception {
+            TournamentResult result = play(entrants(30), 4);
+
+            List<Player> finalTable = result.finalTable();
+            assertTrue(finalTable.size() >= Dealer.MIN_PLAYER && finalTable.size() <= Dealer.MAX_PLAYER);
+            assertTrue(finalTable.contains(result.champion()));
+            // 파이널 테이블 인원이 그대로 최상위 순위를 차지한다
+            assertTrue(finalTable.containsAll(result.standings().subList(0, finalTable.size())));
+        }
+
+        @Test
+        @DisplayName("한 테이블로 시작하면 처음부터 파이널 테이블")
+        void shouldStartAtFinalTableWhenFew() throws Exception {
+            List<Player> players = entrants(3);
+            TournamentResult result = play(players, 9);
+
+            assertEquals(players, result.finalTable());
+            assertEquals(3, result.standings().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+        @Test
+        @DisplayName("참가자가 모자라거나 겹치면 거부함")
+        void shouldRejectInvalidEntrants() {
+            List<Player> players = entrants(2);
+            assertThrows(IllegalArgumentException.class,
+                    () -> Tournament.newTournament(players.subList(0, 1), SeedPolicy.fixed(1)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> Tournament.newTournament(List.of(players.get(0), players.get(0)), SeedPolicy.fixed(1)));
+        }
+
+        @Test
+        @DisplayName("포인트가 없는 플레이어는 참가할 수 없음")
+        void shouldRejectBustedEntrant() {
+            List<Player> players = entrants(2);
+            players.get(1).prizePoint(-Player.INITIAL_POINT);
+            assertThrows(IllegalArgumentException.class, () -> Tournament.newTournament(players, SeedPolicy.fixed(1)));
+        }
+
+        @Test
+        @DisplayName("판돈은 시작 전에 기본 판돈이고 인상 주기는 시작 전에만 바꿀 수 있음")
+        void shouldConfigureBetLevelsBeforeStart() throws Exception {
+            Tournament tournament = Tournament.newTournament(entrants(8), SeedPolicy.fixed(6));
+            assertEquals(Dealer.BET_POINT, tournament.currentBet());
+            assertThrows(IllegalArgumentException.class, () -> tournament.raiseBetEvery(0));
+            tournament.raiseBetEvery(1);
+            TournamentResult result = tournament.start().get(1, TimeUnit.MINUTES);
+
+            assertThrows(IllegalStateException.class, () -> tournament.raiseBetEvery(1));
+            // 참가자 수만큼 매치가 지날 때마다 두 배가 되고 초기 포인트에서 멈춘다
+            long level = result.matches() / 8;
+            int expected = (int) Math.min((long) Dealer.BET_POINT << Math.min(level, Integer.SIZE - 2), Player.INITIAL_POINT);
+            assertEquals(expected, tournament.currentBet());
+        }
+
+        @Test
+        @DisplayName("두 번 시작할 수 없음")
+        void shouldStartOnce() throws Exception {
+            Tournament tournament = Tournament.newTournament(entrants(2), SeedPolicy.fixed(3));
+            tournament.start();
+            assertThrows(IllegalStateException.class, tournament::start);
+            tournament.result().get(1, TimeUnit.MINUTES);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package event;
+
+import dealer.Dealer;
+import dealer.SeedPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.Player;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EventBus 비동기 전달과 Dealer 이벤트 발행 검증 테스트
+ */
+class EventBusTest {
+
+    @Nested
+    @DisplayName("전달")
+    class Delivery {
+        @Test
+        @DisplayName("발행 순서대로, 닫을 때 남김없이 전달")
+        void shouldDeliverInOrderAndDrainOnClose() {
+            List<MatchEvent> received = new ArrayList<>();
+            List<Integer> batchSizes = new ArrayList<>();
+            try (EventBus bus = EventBus.newEventBus(64, 16)) {
+                bus.subscribe("test", batch -> {
+                    batchSizes.add(batch.size());
+                    received.addAll(batch);
+                });
+                for (int i = 0; i < 1_000; i++) {
+                    bus.publish(new MatchEvent.GameStarted(i));
+                }
+            }
+            assertEquals(1_000, received.size());
+            for (int i = 0; i < received.size(); i++) {
+                assertEquals(i, ((MatchEvent.GameStarted) received.get(i)).matchId());
+            }
+            assertTrue(batchSizes.stream().allMatch(size -> size <= 16), "배치 크기를 넘겨서는 안 됩니다.");
+        }
+
+        @Test
+        @DisplayName("느린 구독자가 있어도 큐가 차기 전까지 발행은 기다리지 않음")
+        void shouldNotBlockPublisherOnSlowSubscriber() throws InterruptedException {
+            CountDownLatch release = new CountDownLatch(1);
+            try (EventBus bus = EventBus.newEventBus(1_024, 64)) {
+                bus.subscribe("slow", batch -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                long start = System.nanoTime();
+                for (int i = 0; i < 500; i++) {
+                    bus.publish(new MatchEvent.Shuffled(i));
+                }
+                long elapsed = System.nanoTime() - start;
+                assertTrue(elapsed < TimeUnit.SECONDS.toNanos(1), "구독자가 멈춰 있어도 발행이 막혀서는 안 됩니다.");
+                release.countDown();
+            }
+        }
+
+        @Test
+        @DisplayName("구독자 예외는 닫을 때 알림")
+        void shouldReportSubscriberFailureOnClose() {
+            EventBus bus = EventBus.newEventBus();
+            bus.subscribe("broken", batch -> {
+                throw new IllegalArgumentException("broken");
+            });
+            bus.publish(new MatchEvent.Dealt(0));
+            assertThrows(IllegalStateException.class, bus::close);
+            assertThrows(IllegalStateException.class, () -> bus.publish(new MatchEvent.Dealt(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("닫기와 실패")
+    class Shutdown {
+        @Test
+        @DisplayName("닫는 동안 발행이 몰려도 close가 끝나고, 받아들인 이벤트는 모두 전달됨")
+        void shouldCloseWhilePublishersRace() throws Exception {
+            for (int round = 0; round < 20; round++) {
+                AtomicLong received = new AtomicLong();
+                AtomicLong accepted = new AtomicLong();
+                EventBus bus = EventBus.newEventBus(8, 4);
+                bus.subscribe("race", batch -> received.addAndGet(batch.size()));
+                List<Thread> publishers = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    Thread publisher = new Thread(() -> {
+                        try {
+                            for (long i = 0; ; i++) {
+                                bus.publish(new MatchEvent.GameStarted(i));
+                                accepted.incrementAndGet();
+                            }
+                        } catch (IllegalStateException closed) {
+                            // 닫힌 뒤의 발행은 거부된다
+                        }
+                    });
+                    publisher.start();
+                    publishers.add(publisher);
+                }
+                Thread.sleep(2);
+                assertTimeoutPreemptively(Duration.ofSeconds(10), bus::close);
+                for (Thread publisher : publishers) {
+                    publisher.join(TimeUnit.SECONDS.toMillis(10));
+                    assertFalse(publisher.isAlive());
+                }
+                assertEquals(accepted.get(), received.get(), "받아들인 발행은 하나도 빠짐없이 전달되어야 합니다.");
+            }
+        }
+
+        @Test
+        @DisplayName("닫는 동안 붙은 구독자도 남김없이 끝나고, 닫힌 뒤의 구독은 거부됨")
+        void shouldNotLeakSubscribersAddedDuringClose() throws Exception {
+            for (int round = 0; round < 20; round++) {
+                String prefix = "event-late-" + round + "-";
+                EventBus bus = EventBus.newEventBus();
+                Thread subscriber = new Thread(() -> {
+                    try {
+                        for (int i = 0; ; i++) {
+                            bus.subscribe(prefix.substring("event-".length()) + i, batch -> { });
+                        }
+                    } catch (IllegalStateException closed) {
+                        // 닫힌 뒤의 구독은 거부된다
+                    }
+                });
+                subscriber.start();
+                Thread.sleep(1);
+                assertTimeoutPreemptively(Duration.ofSeconds(10), bus::close);
+                subscriber.join(TimeUnit.SECONDS.toMillis(10));
+                assertFalse(subscriber.isAlive());
+
+                for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                    if (thread.getName().startsWith(prefix)) {
+                        thread.join(TimeUnit.SECONDS.toMillis(10));
+                        assertFalse(thread.isAlive(), "닫힌 버스의 구독자 스레드가 남아서는 안 됩니다: " + thread.getName());
+                    }
+                }
+                assertThrows(IllegalStateException.class, () -> bus.subscribe("after", batch -> { }));
+            }
+        }
+
+        @Test
+        @DisplayName("구독자가 Error를 던지면 발행이 막히지 않고 예외로 알려짐")
+        void shouldNotBlockPublishersWhenDispatcherDies() {
+            EventBus bus = EventBus.newEventBus(4, 1);
+            bus.subscribe("fatal", batch -> {
+                throw new StackOverflowError("fatal");
+            });
+            IllegalStateException stopped = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                while (true) {
+                    try {
+                        bus.publish(new MatchEvent.Dealt(0));
+                    } catch (IllegalStateException e) {
+                        return e;
+                    }
+                }
+            });
+            assertInstanceOf(StackOverflowError.class, stopped.getCause());
+            IllegalStateException closed = assertThrows(IllegalStateException.class, bus::close);
+            assertInstanceOf(StackOverflowError.class, closed.getCause());
+        }
+    }
+
+    @Nested
+    @DisplayName("딜러 이벤트")
+    class DealerEvents {
+        @Test
+        @DisplayName("매치 진행 순서대로 이벤트 발행")
+        void shouldPublishLifecycleEvents() {
+            List<MatchEvent> received = new ArrayList<>();
+            Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(9));
+            try (EventBus bus = EventBus.newEventBus()) {
+                bus.subscribe("test", received::addAll);
+                dealer.publishTo(bus);
+                dealer.enrollPlayer(Player.newPlayer("EB" + UUID.randomUUID().toString().substring(0, 6)));
+                dealer.enrollPlayer(Player.newPlayer("EB" + UUID.randomUUID().toString().substring(0, 6)));
+                dealer.newGame();
+                dealer.shuffle();
+                dealer.dealCard();
+                dealer.handOpen();
+                dealer.retrieveCard();
+                dealer.endStage();
+            }
+
+            List<Class<?>> types = received.stream().<Class<?>>map(Object::getClass).toList();
+            assertEquals(List.of(MatchEvent.PlayerEnrolled.class, MatchEvent.PlayerEnrolled.class,
+                    MatchEvent.GameStarted.class, MatchEvent.Shuffled.class, MatchEvent.Dealt.class,
+                    MatchEvent.HandsOpened.class, MatchEvent.MatchSettled.class, MatchEvent.StageEnded.class), types);
+
+            MatchEvent.HandsOpened opened = (MatchEvent.HandsOpened) received.get(5);
+            assertEquals(dealer.getLatestMatch().values().stream().toList(),
+                    List.of(opened.result().render(0), opened.result().render(1)), "이벤트의 패가 딜러 기록과 같아야 합니다.");
+            MatchEvent.MatchSettled settled = (MatchEvent.MatchSettled) received.get(6);
+            assertEquals(dealer.getLastMatchWinner().map(Player::getNickName).orElse(null), settled.winner());
+            MatchEvent.StageEnded ended = (MatchEvent.StageEnded) received.get(7);
+            assertEquals(dealer.getTotalStageWinner().orElseThrow().getNickName(), ended.standings().get(0).nickName());
+        }
+    }
+}
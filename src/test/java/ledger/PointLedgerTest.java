@@ -0,0 +1,192 @@
+package ledger;
+
+import dealer.Dealer;
+import dealer.SeedPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.NicknameRegistry;
+import player.Player;
+import player.PlayerRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointLedger 원자적 이체와 저널 검증 테스트
+ */
+class PointLedgerTest {
+
+    private static List<Player> players(NicknameRegistry registry, String prefix, int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(Player.newPlayer(prefix + i, registry));
+        }
+        return players;
+    }
+
+    @Nested
+    @DisplayName("판돈 정산")
+    class Pot {
+        @Test
+        @DisplayName("단독 승자가 판돈을 모두 가져감")
+        void shouldPayWinner() {
+            List<Player> seats = players(NicknameRegistry.newRegistry(), "P", 3);
+            int winner = PointLedger.newLedger().settlePot(0, seats, new int[]{10, 300, 20}, 100);
+            assertEquals(1, winner);
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT + 200, 1, 0, 0), seats.get(1).getRecord());
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT - 100, 0, 1, 0), seats.get(0).getRecord());
+        }
+
+        @Test
+        @DisplayName("공동 승자는 나눠 갖고 나머지는 앞 좌석이 받음")
+        void shouldSplitTies() {
+            List<Player> seats = players(NicknameRegistry.newRegistry(), "T", 4);
+            int winner = PointLedger.newLedger().settlePot(0, seats, new int[]{7, 1, 7, 7}, 100);
+            assertEquals(-1, winner);
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT + 34, 0, 0, 1), seats.get(0).getRecord());
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT - 100, 0, 1, 0), seats.get(1).getRecord());
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT + 33, 0, 0, 1), seats.get(2).getRecord());
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT + 33, 0, 0, 1), seats.get(3).getRecord());
+        }
+
+        @Test
+        @DisplayName("올인 정산은 진 사람이 남은 포인트까지만 내고 판돈도 그만큼만 커짐")
+        void shouldCapLossesAtStack() {
+            List<Player> seats = players(NicknameRegistry.newRegistry(), "A", 3);
+            PointLedger ledger = PointLedger.newLedger();
+            seats.get(0).prizePoint(-(Player.INITIAL_POINT - 30));
+            int winner = ledger.settleAllIn(0, seats, new int[]{1, 9, 2}, 100);
+            assertEquals(1, winner);
+            assertEquals(0, seats.get(0).getPoint());
+            assertEquals(Player.INITIAL_POINT - 100, seats.get(2).getPoint());
+            assertEquals(Player.INITIAL_POINT + 130, seats.get(1).getPoint());
+
+            // 이미 0인 플레이어는 더 잃지 않는다
+            ledger.settleAllIn(1, seats, new int[]{1, 9, 2}, 100);
+            assertEquals(new PlayerRecord(0, 0, 2, 0), seats.get(0).getRecord());
+            assertTrue(ledger.audit(seats, 3L * Player.INITIAL_POINT - (Player.INITIAL_POINT - 30)));
+        }
+
+        @Test
+        @DisplayName("합이 0이 아닌 이체는 아무것도 반영하지 않음")
+        void shouldRejectUnbalancedTransfer() {
+            List<Player> seats = players(NicknameRegistry.newRegistry(), "U", 2);
+            PointLedger ledger = PointLedger.journaled();
+            assertThrows(IllegalArgumentException.class, () -> ledger.transfer(0, seats,
+                    new int[]{100, -90}, new Outcome[]{Outcome.WIN, Outcome.LOSS}));
+            assertEquals(Player.INITIAL_POINT, seats.get(0).getPoint());
+            assertEquals(0, ledger.transfers());
+            assertTrue(ledger.journal().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("검증")
+    class Validation {
+        @Test
+        @DisplayName("승패나 참가자가 비어 있으면 아무에게도 반영하지 않음")
+        void shouldRejectBeforeApplyingAnyLeg() {
+            List<Player> seats = players(NicknameRegistry.newRegistry(), "V", 2);
+            PointLedger ledger = PointLedger.journaled();
+            assertThrows(NullPointerException.class, () -> ledger.transfer(0, seats,
+                    new int[]{100, -100}, new Outcome[]{Outcome.WIN, null}));
+            assertThrows(NullPointerException.class, () -> ledger.transfer(0, Arrays.asList(seats.get(0), null),
+                    new int[]{100, -100}, new Outcome[]{Outcome.WIN, Outcome.LOSS}));
+
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT, 0, 0, 0), seats.get(0).getRecord());
+            assertEquals(new PlayerRecord(Player.INITIAL_POINT, 0, 0, 0), seats.get(1).getRecord());
+            assertEquals(0, ledger.transfers());
+            assertTrue(ledger.journal().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("저널")
+    class Journal {
+        @Test
+        @DisplayName("저널을 다시 적용하면 같은 전적이 됨")
+        void shouldReplayJournal() {
+            PointLedger ledger = PointLedger.journaled();
+            Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(17));
+            dealer.settleWith(ledger);
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            List<Player> seats = players(registry, "J", 4);
+            seats.forEach(dealer::enrollPlayer);
+            for (int game = 0; game < 500; game++) {
+                dealer.newGame();
+                dealer.shuffle();
+                dealer.dealCard();
+                dealer.handOpen();
+                dealer.retrieveCard();
+            }
+            assertEquals(500, ledger.transfers());
+
+            Map<String, Player> replayed = new HashMap<>();
+            for (Player player : players(NicknameRegistry.newRegistry(), "J", 4)) {
+                replayed.put(player.getNickName(), player);
+            }
+            ledger.replay(replayed::get);
+            for (Player player : seats) {
+                assertEquals(player.getRecord(), replayed.get(player.getNickName()).getRecord());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 정산")
+    class Concurrent {
+        @Test
+        @DisplayName("테이블들이 겹치는 플레이어를 동시에 정산해도 포인트가 보존되고 반쯤 보이지 않음")
+        void shouldConservePointsUnderConcurrency() throws InterruptedException {
+            List<Player> pool = players(NicknameRegistry.newRegistry(), "C", 16);
+            long total = (long) pool.size() * Player.INITIAL_POINT;
+            PointLedger ledger = PointLedger.journaled(16);
+            int tables = 8;
+            int matches = 20_000;
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger brokenAudits = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(tables);
+
+            Thread auditor = new Thread(() -> {
+                while (running.get()) {
+                    if (!ledger.audit(pool, total)) {
+                        brokenAudits.incrementAndGet();
+                    }
+                }
+            });
+            auditor.start();
+            for (int t = 0; t < tables; t++) {
+                new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int m = 0; m < matches; m++) {
+                        int first = random.nextInt(pool.size());
+                        int second = (first + 1 + random.nextInt(pool.size() - 1)) % pool.size();
+                        List<Player> seats = List.of(pool.get(first), pool.get(second));
+                        ledger.settlePot(m, seats, new int[]{random.nextInt(3), random.nextInt(3)}, 100);
+                    }
+                    done.countDown();
+                }).start();
+            }
+            done.await();
+            running.set(false);
+            auditor.join();
+
+            assertEquals(0, brokenAudits.get(), "감사 중에 반쯤 반영된 이체가 보여서는 안 됩니다.");
+            assertTrue(ledger.audit(pool, total));
+            assertEquals((long) tables * matches, ledger.transfers());
+            assertEquals(tables * matches, ledger.journal().size());
+            int matchesPlayed = pool.stream().mapToInt(p -> p.getRecord().matches()).sum();
+            assertEquals(2 * tables * matches, matchesPlayed);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package metrics;
+
+import common.Hand;
+import dealer.Dealer;
+import dealer.HoldemDealer;
+import dealer.SeedPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import player.NicknameRegistry;
+import player.Player;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 지연 시간 히스토그램과 Metrics 계측 검증 테스트
+ */
+class MetricsTest {
+
+    @AfterEach
+    void restoreDefaults() {
+        Metrics.setSampleInterval(Metrics.DEFAULT_SAMPLE_INTERVAL);
+        Metrics.setEnabled(true);
+    }
+
+    @Nested
+    @DisplayName("히스토그램")
+    class Histogram {
+        @Test
+        @DisplayName("값은 자기 버킷의 범위 안에 들어감")
+        void shouldPlaceValuesInsideBucketBounds() {
+            Random random = new Random(1);
+            for (int i = 0; i < 100_000; i++) {
+                long nanos = random.nextLong() >>> (1 + random.nextInt(63));
+                int bucket = LatencyHistogram.bucketOf(nanos);
+                assertTrue(bucket < LatencyHistogram.BUCKETS);
+                assertTrue(nanos <= LatencyHistogram.upperBound(bucket));
+                if (bucket > 0) {
+                    assertTrue(nanos > LatencyHistogram.upperBound(bucket - 1));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("백분위 오차는 구간 폭의 25% 이내")
+        void shouldEstimatePercentiles() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long nanos = 1; nanos <= 10_000; nanos++) {
+                histogram.record(nanos);
+            }
+            PhaseStats stats = new PhaseStats(Phase.SHUFFLE, 10_000, histogram.counts(), histogram.totalNanos(), histogram.maxNanos());
+            assertEquals(10_000, stats.getSamples());
+            assertEquals(10_000, stats.getMaxNanos());
+            assertEquals(5_000.5, stats.getMeanNanos(), 1e-9);
+            assertTrue(Math.abs(stats.getP50Nanos() - 5_000) <= 5_000 / 4);
+            assertTrue(Math.abs(stats.getP99Nanos() - 9_900) <= 9_900 / 4);
+            assertEquals(10_000, stats.percentile(100));
+        }
+    }
+
+    @Nested
+    @DisplayName("계측")
+    class Instrumentation {
+        @Test
+        @DisplayName("딜러 단계와 매치당 핸드 평가를 빠짐없이 셈 (표본 간격 1)")
+        void shouldCountEveryPhase() {
+            Metrics.setSampleInterval(1);
+            PhaseStats newGameBefore = Metrics.snapshot(Phase.NEW_GAME);
+            PhaseStats evaluateBefore = Metrics.snapshot(Phase.HAND_EVALUATE);
+
+            Dealer dealer = Dealer.newDealer(SeedPolicy.fixed(4));
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            for (int i = 0; i < 4; i++) {
+                dealer.enrollPlayer(Player.newPlayer("M" + i, registry));
+            }
+            for (int game = 0; game < 100; game++) {
+                dealer.newGame();
+                dealer.shuffle();
+                dealer.dealCard();
+                dealer.handOpen();
+                dealer.retrieveCard();
+            }
+
+            PhaseStats newGame = Metrics.snapshot(Phase.NEW_GAME);
+            PhaseStats evaluate = Metrics.snapshot(Phase.HAND_EVALUATE);
+            assertEquals(100, newGame.getCalls() - newGameBefore.getCalls());
+            assertEquals(100, newGame.getSamples() - newGameBefore.getSamples());
+            assertEquals(100, evaluate.getCalls() - evaluateBefore.getCalls(), "평가는 좌석마다가 아니라 매치마다 한 번 재야 합니다.");
+            assertTrue(Metrics.snapshot(Phase.HAND_OPEN).getMaxNanos() > 0);
+
+            // 딜러 밖에서 핸드 하나를 평가·비교하는 것은 재지 않는다
+            Hand hand = new Hand();
+            for (int index = 0; index < 5; index++) {
+                hand.add(index);
+            }
+            hand.open();
+            assertEquals(0, hand.compareTo(hand));
+            assertEquals(evaluate.getCalls(), Metrics.snapshot(Phase.HAND_EVALUATE).getCalls());
+        }
+
+        @Test
+        @DisplayName("홀덤 딜러는 자기 단계로 셈 (표본 간격 1)")
+        void shouldCountHoldemPhasesSeparately() {
+            Metrics.setSampleInterval(1);
+            PhaseStats dealBefore = Metrics.snapshot(Phase.HOLDEM_DEAL);
+            PhaseStats showdownBefore = Metrics.snapshot(Phase.HOLDEM_SHOWDOWN);
+            PhaseStats fiveCardDealBefore = Metrics.snapshot(Phase.DEAL_CARD);
+            PhaseStats fiveCardOpenBefore = Metrics.snapshot(Phase.HAND_OPEN);
+
+            HoldemDealer dealer = HoldemDealer.newHoldemDealer(SeedPolicy.fixed(4));
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            for (int i = 0; i < 4; i++) {
+                dealer.enrollPlayer(Player.newPlayer("H" + i, registry));
+            }
+            for (int game = 0; game < 100; game++) {
+                dealer.playMatch();
+            }
+
+            assertEquals(100, Metrics.snapshot(Phase.HOLDEM_DEAL).getCalls() - dealBefore.getCalls());
+            assertEquals(100, Metrics.snapshot(Phase.HOLDEM_SHOWDOWN).getCalls() - showdownBefore.getCalls());
+            assertEquals(fiveCardDealBefore.getCalls(), Metrics.snapshot(Phase.DEAL_CARD).getCalls(),
+                    "홀덤 배분이 5장 딜러 단계에 섞여서는 안 됩니다.");
+            assertEquals(fiveCardOpenBefore.getCalls(), Metrics.snapshot(Phase.HAND_OPEN).getCalls(),
+                    "홀덤 쇼다운이 5장 딜러 단계에 섞여서는 안 됩니다.");
+        }
+
+        @Test
+        @DisplayName("꺼져 있으면 세지 않음")
+        void shouldSkipWhenDisabled() {
+            Metrics.setEnabled(false);
+            long before = Metrics.snapshot(Phase.SHUFFLE).getCalls();
+            Metrics.stop(Phase.SHUFFLE, Metrics.start(Phase.SHUFFLE));
+            assertEquals(before, Metrics.snapshot(Phase.SHUFFLE).getCalls());
+            assertThrows(IllegalArgumentException.class, () -> Metrics.setSampleInterval(3));
+        }
+
+        @Test
+        @DisplayName("등록하면 플랫폼 MBean으로 노출")
+        void shouldExposePlatformMBean() throws Exception {
+            assertTrue(Metrics.registerMBean());
+            assertTrue(Metrics.registerMBean(), "두 번째 등록도 실패 없이 끝나야 합니다.");
+            Metrics.setSampleInterval(1);
+            Metrics.stop(Phase.DEAL_CARD, Metrics.start(Phase.DEAL_CARD));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(Metrics.OBJECT_NAME);
+            assertTrue(server.isRegistered(name));
+            assertEquals(1, server.getAttribute(name, "SampleInterval"));
+            CompositeData[] phases = (CompositeData[]) server.getAttribute(name, "Phases");
+            assertEquals(Phase.values().length, phases.length);
+            CompositeData deal = phases[Phase.DEAL_CARD.ordinal()];
+            assertEquals("DEAL_CARD", deal.get("phase"));
+            assertTrue((long) deal.get("calls") > 0);
+        }
+    }
+}
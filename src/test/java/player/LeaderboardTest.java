@@ -0,0 +1,121 @@
+package player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Leaderboard 순위표 검증 테스트
+ */
+class LeaderboardTest {
+
+    private static Player newPlayer(String prefix) {
+        return Player.newPlayer(prefix + UUID.randomUUID().toString().substring(0, 8));
+    }
+
+    @Nested
+    @DisplayName("순위 갱신")
+    class Ranking {
+        @Test
+        @DisplayName("포인트 → 승 → 적은 패 → 입장 순으로 정렬")
+        void shouldOrderByStageRule() {
+            Leaderboard board = new Leaderboard();
+            Player first = newPlayer("LB");
+            Player second = newPlayer("LB");
+            Player third = newPlayer("LB");
+            board.add(third);
+            board.add(second);
+            board.add(first);
+            assertEquals(third, board.winner().orElseThrow(), "동점이면 먼저 들어온 플레이어가 앞서야 합니다.");
+
+            first.prizePoint(100);
+            second.win();
+            third.lose();
+            assertEquals(List.of(first, second, third), board.top(3));
+            assertEquals(1, board.rankOf(first));
+            assertEquals(3, board.rankOf(third));
+
+            third.prizePoint(500);
+            assertEquals(third, board.winner().orElseThrow(), "포인트가 바뀌면 즉시 순위에 반영되어야 합니다.");
+            assertEquals(List.of(third, first), board.top(2));
+        }
+
+        @Test
+        @DisplayName("무작위 갱신 후에도 전체 정렬과 같은 순위")
+        void shouldMatchFullSortAfterRandomUpdates() {
+            Leaderboard board = new Leaderboard();
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                Player player = newPlayer("LR");
+                players.add(player);
+                board.add(player);
+            }
+            Random random = new Random(11);
+            for (int step = 0; step < 20_000; step++) {
+                Player player = players.get(random.nextInt(players.size()));
+                switch (random.nextInt(3)) {
+                    case 0 -> player.prizePoint(random.nextInt(3) * 100 - 100);
+                    case 1 -> player.win();
+                    default -> player.lose();
+                }
+            }
+            Player merged = players.get(7);
+            merged.merge(new PlayerRecord(1_000, 1, 0, 0));
+
+            List<Player> expected = new ArrayList<>(players);
+            expected.sort(Comparator.comparingInt(Player::getPoint).reversed()
+                    .thenComparing(Comparator.comparingInt(Player::getWins).reversed())
+                    .thenComparingInt(Player::getLosses));
+            assertEquals(expected, board.top(players.size()));
+            for (int rank = 1; rank <= expected.size(); rank += 37) {
+                assertEquals(rank, board.rankOf(expected.get(rank - 1)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("등록과 제거")
+    class Membership {
+        @Test
+        @DisplayName("중복 등록 거부, 제거 후에는 순위에서 빠짐")
+        void shouldAddAndRemove() {
+            Leaderboard board = new Leaderboard();
+            Player player = newPlayer("LM");
+            Player other = newPlayer("LM");
+            board.add(player);
+            board.add(other);
+            assertThrows(IllegalArgumentException.class, () -> board.add(player));
+
+            assertTrue(board.remove(player));
+            assertFalse(board.remove(player));
+            assertEquals(1, board.size());
+            assertThrows(IllegalArgumentException.class, () -> board.rankOf(player));
+            player.prizePoint(1_000);
+            assertEquals(other, board.winner().orElseThrow(), "제거된 플레이어는 순위표를 바꾸지 않아야 합니다.");
+        }
+
+        @Test
+        @DisplayName("한 플레이어가 여러 순위표에 동시에 오를 수 있음")
+        void shouldTrackSeveralBoards() {
+            Leaderboard table = new Leaderboard();
+            Leaderboard global = new Leaderboard();
+            Player player = newPlayer("LG");
+            Player rival = newPlayer("LG");
+            table.add(rival);
+            table.add(player);
+            global.add(rival);
+            global.add(player);
+            player.prizePoint(100);
+            assertEquals(player, table.winner().orElseThrow());
+            assertEquals(player, global.winner().orElseThrow());
+        }
+    }
+}
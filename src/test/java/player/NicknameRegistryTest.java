@@ -0,0 +1,114 @@
+package player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NicknameRegistry 이름 공간 검증 테스트
+ */
+class NicknameRegistryTest {
+
+    @Nested
+    @DisplayName("이름 공간")
+    class Namespace {
+        @Test
+        @DisplayName("이름 공간이 다르면 같은 닉네임을 쓸 수 있음")
+        void shouldIsolateNamespaces() {
+            NicknameRegistry table1 = NicknameRegistry.newRegistry();
+            NicknameRegistry table2 = NicknameRegistry.newRegistry();
+            Player.newPlayer("고니", table1);
+            assertDoesNotThrow(() -> Player.newPlayer("고니", table2));
+            assertThrows(IllegalArgumentException.class, () -> Player.newPlayer("고니", table1));
+        }
+
+        @Test
+        @DisplayName("반납한 닉네임은 다시 쓸 수 있음")
+        void shouldReleaseOnUnregister() {
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            Player player = Player.newPlayer("짝귀", registry);
+            player.unregister();
+            player.unregister();
+            assertFalse(registry.contains("짝귀"));
+            Player again = Player.newPlayer("짝귀", registry);
+            player.unregister();
+            assertTrue(registry.contains("짝귀"), "이전 플레이어의 반납이 새 등록을 지워서는 안 됩니다.");
+            again.unregister();
+            assertEquals(0, registry.size());
+        }
+
+        @Test
+        @DisplayName("수거될 때 Cleaner가 부르는 작업이 닉네임을 반납함")
+        void shouldReleaseWhenCollected() {
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            Player player = Player.newPlayer("유령", registry);
+            Runnable cleanup = player.cleanupAction();
+            for (Field field : cleanup.getClass().getDeclaredFields()) {
+                assertFalse(Player.class.isAssignableFrom(field.getType()),
+                        "반납 작업이 플레이어를 붙잡으면 플레이어가 수거되지 않습니다: " + field.getName());
+            }
+
+            cleanup.run();
+            assertFalse(registry.contains("유령"), "수거된 플레이어의 닉네임은 반납되어야 합니다.");
+            Player again = Player.newPlayer("유령", registry);
+            cleanup.run();
+            assertTrue(registry.contains("유령"), "늦게 도착한 정리 작업이 새 등록을 지워서는 안 됩니다.");
+            again.unregister();
+            assertEquals(0, registry.size());
+            assertNull(player.standIn().cleanupAction(), "대리 플레이어는 반납할 닉네임이 없습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 등록")
+    class Concurrent {
+        @Test
+        @DisplayName("여러 스레드가 대량 등록해도 모두 등록되고 중복은 하나만 성공")
+        void shouldRegisterConcurrently() throws Exception {
+            NicknameRegistry registry = NicknameRegistry.newRegistry();
+            int threads = 8;
+            int perThread = 25_000;
+            AtomicInteger duplicateWinners = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Player> keep = new ArrayList<>(threads * perThread);
+            try {
+                List<Future<List<Player>>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    results.add(executor.submit(() -> {
+                        List<Player> created = new ArrayList<>(perThread);
+                        for (int i = 0; i < perThread; i++) {
+                            created.add(Player.newPlayer("봇" + thread + "-" + i, registry));
+                        }
+                        try {
+                            created.add(Player.newPlayer("아귀", registry));
+                            duplicateWinners.incrementAndGet();
+                        } catch (IllegalArgumentException expected) {
+                            // 다른 스레드가 먼저 차지
+                        }
+                        return created;
+                    }));
+                }
+                for (Future<List<Player>> result : results) {
+                    keep.addAll(result.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(1, duplicateWinners.get(), "같은 닉네임은 한 번만 등록되어야 합니다.");
+            assertEquals(threads * perThread + 1, registry.size());
+            keep.forEach(Player::unregister);
+            assertEquals(0, registry.size());
+        }
+    }
+}
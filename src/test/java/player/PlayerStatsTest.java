@@ -0,0 +1,72 @@
+package player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 플레이어 포인트·전적 카운터의 동시 갱신 검증 테스트
+ */
+class PlayerStatsTest {
+
+    @Test
+    @DisplayName("여러 스레드가 한 플레이어를 갱신해도 잃는 갱신이 없고 스냅샷은 항상 일관됨")
+    void shouldNotLoseUpdatesAndKeepSnapshotsConsistent() throws InterruptedException {
+        Player player = Player.newPlayer("핫" + UUID.randomUUID().toString().substring(0, 6));
+        int threads = 8;
+        int perThread = 100_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<String> violations = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                PlayerRecord record = player.getRecord();
+                // 승리는 +100, 패배는 -100과 함께 반영되므로 일관된 스냅샷에서는 항상 성립한다
+                if (record.point() != Player.INITIAL_POINT + 100 * (record.wins() - record.losses())) {
+                    synchronized (violations) {
+                        violations.add(record.toString());
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (int t = 0; t < threads; t++) {
+            boolean winner = t % 2 == 0;
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (winner) {
+                        player.settle(100, 1, 0, 0);
+                    } else {
+                        player.settle(-100, 0, 1, 0);
+                    }
+                    player.draw();
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        running.set(false);
+        reader.join();
+
+        assertTrue(violations.isEmpty(), () -> "반쯤 반영된 스냅샷: " + violations.subList(0, Math.min(5, violations.size())));
+        PlayerRecord record = player.getRecord();
+        assertEquals(new PlayerRecord(Player.INITIAL_POINT, threads / 2 * perThread, threads / 2 * perThread, threads * perThread), record);
+    }
+
+    @Test
+    @DisplayName("변화량 병합은 포인트와 전적을 함께 반영")
+    void shouldMergeDeltaAtOnce() {
+        Player player = Player.newPlayer("합" + UUID.randomUUID().toString().substring(0, 6));
+        player.merge(new PlayerRecord(300, 4, 1, 2));
+        assertEquals(new PlayerRecord(Player.INITIAL_POINT + 300, 4, 1, 2), player.getRecord());
+        assertEquals(7, player.getRecord().matches());
+    }
+}